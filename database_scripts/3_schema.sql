@@ -97,6 +97,46 @@ CREATE TABLE tasks (
         CHECK (status IN ('TODO', 'IN_PROGRESS', 'DONE'))
 );
 
+-- =============================================
+-- Bảng 5: contributor_scores
+-- Điểm đóng góp của từng user, cập nhật dần mỗi khi task thay đổi
+-- (backend chỉ rebuild toàn bộ khi chưa có dòng contributor_score_state)
+-- overdue_tasks: số task chưa DONE có deadline trước ngày tính điểm (contributor_score_state.as_of)
+-- Contribution Score = (DONE × 10) − (Overdue × 5), tối thiểu 0
+-- =============================================
+CREATE TABLE contributor_scores (
+    user_id             UUID        PRIMARY KEY,
+    total_tasks         BIGINT      NOT NULL DEFAULT 0,
+    completed_tasks     BIGINT      NOT NULL DEFAULT 0,
+    overdue_tasks       BIGINT      NOT NULL DEFAULT 0,
+    contribution_score  INTEGER     NOT NULL DEFAULT 0,
+    updated_at          TIMESTAMP,
+
+    CONSTRAINT fk_cs_user
+        FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- =============================================
+-- Bảng 5b: contributor_score_state
+-- Một dòng duy nhất (id = 1): ngày tính điểm quá hạn của contributor_scores.
+-- Sang ngày mới, job định kỳ chạy UPDATE ... WHERE as_of = <ngày cũ>: chỉ một instance
+-- thắng và cộng thêm các task vừa quá hạn
+-- =============================================
+CREATE TABLE contributor_score_state (
+    id      SMALLINT    PRIMARY KEY,
+    as_of   DATE        NOT NULL
+);
+
+-- =============================================
+-- Bảng 6: system_flags
+-- Cờ hệ thống chỉ bật một lần (vd: ADMIN_BOOTSTRAPPED — user đầu tiên đăng nhập thành ADMIN)
+-- Bật cờ = INSERT ... ON CONFLICT DO NOTHING, khoá chính chống race giữa các request / instance
+-- =============================================
+CREATE TABLE system_flags (
+    name    VARCHAR(64) PRIMARY KEY,
+    set_at  TIMESTAMP   NOT NULL
+);
+
 -- =============================================
 -- INDEXES: Tăng tốc các query Dashboard thường dùng
 -- =============================================
@@ -116,5 +156,11 @@ CREATE INDEX ix_pm_user ON project_members(user_id);
 -- Projects: filter theo status
 CREATE INDEX ix_projects_status ON projects(status);
 
+-- Projects: query projects do 1 user làm leader (danh sách project của user)
+CREATE INDEX ix_projects_leader ON projects(leader_id);
+
+-- Contributor_Scores: top contributors (admin dashboard)
+CREATE INDEX ix_contributor_scores_score ON contributor_scores(contribution_score DESC);
+
 -- Users: lookup theo firebase_uid (auth verify)
 -- (đã có UNIQUE constraint → tự tạo index)
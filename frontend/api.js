@@ -104,3 +104,86 @@ export async function apiRequest(endpoint, method = 'GET', body = null) {
           throw error;
      }
 }
+
+// List endpoints are paginated: { items, nextCursor }.
+// Follows nextCursor until the last page (or maxItems) and returns the items as one array.
+// Only for small lookups (pickers, the project list); long lists use apiPager.
+export async function apiRequestAll(endpoint, maxItems = Infinity) {
+     const items = [];
+     let cursor = null;
+     do {
+          const separator = endpoint.includes('?') ? '&' : '?';
+          const url = cursor ? `${endpoint}${separator}cursor=${encodeURIComponent(cursor)}` : endpoint;
+          const page = await apiRequest(url);
+          if (!page) break;
+          items.push(...(page.items || []));
+          cursor = page.nextCursor;
+     } while (cursor && items.length < maxItems);
+     return items.slice(0, maxItems);
+}
+
+// Reads a paginated list one page at a time, for screens that render the first page
+// and load the rest on demand. next() resolves to the next page's items ([] at the end).
+export function apiPager(endpoint) {
+     let cursor = null;
+     let done = false;
+     return {
+          get hasMore() {
+               return !done;
+          },
+          reset() {
+               cursor = null;
+               done = false;
+          },
+          async next() {
+               if (done) return [];
+               const separator = endpoint.includes('?') ? '&' : '?';
+               const url = cursor ? `${endpoint}${separator}cursor=${encodeURIComponent(cursor)}` : endpoint;
+               const page = await apiRequest(url);
+               cursor = page ? page.nextCursor : null;
+               done = !cursor;
+               return (page && page.items) || [];
+          },
+     };
+}
+
+// Server-Sent Events over fetch, so the Authorization header can be sent (EventSource cannot).
+// Calls onEvent(name, data) for every event and resolves when the server ends the stream.
+export async function apiStream(endpoint, onEvent, signal) {
+     const token = await getFreshToken();
+     if (!token) return;
+
+     const response = await fetch(BASE_URL + endpoint, {
+          headers: { Authorization: 'Bearer ' + token },
+          signal,
+     });
+     if (!response.ok) {
+          const error = new Error('Stream failed with status ' + response.status);
+          error.status = response.status;
+          throw error;
+     }
+
+     const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+     let buffer = '';
+     while (true) {
+          const { value, done } = await reader.read();
+          if (done) return;
+          buffer += value;
+
+          // Events are separated by a blank line; lines starting with ':' are keep-alive comments
+          let end;
+          while ((end = buffer.indexOf('\n\n')) >= 0) {
+               const block = buffer.slice(0, end);
+               buffer = buffer.slice(end + 2);
+               let name = 'message';
+               const data = [];
+               for (const line of block.split('\n')) {
+                    if (line.startsWith('event:')) name = line.slice(6).trim();
+                    else if (line.startsWith('data:')) data.push(line.slice(5));
+               }
+               if (data.length > 0) {
+                    await onEvent(name, JSON.parse(data.join('\n')));
+               }
+          }
+     }
+}
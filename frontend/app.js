@@ -1,4 +1,4 @@
-import { apiRequest } from './api.js';
+import { apiRequest, apiRequestAll, apiPager, apiStream } from './api.js';
 import { logout } from './auth.js';
 import { auth } from './firebase-init.js';
 import { onAuthStateChanged } from 'https://www.gstatic.com/firebasejs/9.22.2/firebase-auth.js';
@@ -57,11 +57,13 @@ async function loadDashboard() {
 
           // Fetch dynamic recent items based on role
           if (role === 'MEMBER') {
-               const myTasks = await apiRequest('/tasks/my');
-               data.recentItems = (myTasks || []).slice(0, 3).map(t => ({ name: t.title, color: 'var(--gdg-blue)' }));
+               const myTasks = await apiRequest('/tasks/my?limit=3&order=desc');
+               data.recentItems = ((myTasks && myTasks.items) || []).slice(0, 3).map(t => ({ name: t.title, color: 'var(--gdg-blue)' }));
           } else {
-               const projects = await apiRequest('/projects');
-               data.recentItems = (projects || []).slice(0, 3).map(p => ({ id: p.id, name: p.name, color: 'var(--gdg-green)' }));
+               const projects = await apiRequestAll('/projects?limit=500');
+               data.recentItems = (projects || []).slice()
+                    .sort((a, b) => new Date(b.createdAt) - new Date(a.createdAt))
+                    .slice(0, 3).map(p => ({ id: p.id, name: p.name, color: 'var(--gdg-green)' }));
 
                // Fallback: Recalculate stats on frontend to ensure perfect match with project list
                if (role === 'ADMIN' && projects) {
@@ -395,7 +397,7 @@ async function showCreateProjectModal() {
      let users = [];
      let userLoadError = null;
      try {
-          users = await apiRequest('/users') || [];
+          users = await apiRequestAll('/users?limit=500', 500) || [];
      } catch (err) {
           console.error("Failed to fetch users for leader selection:", err);
           userLoadError = err.message;
@@ -504,7 +506,7 @@ async function loadProjects() {
      const content = document.getElementById('content');
      content.innerHTML = `<div class="spinner"></div> Loading projects...`;
      try {
-          const projects = (await apiRequest('/projects')) || [];
+          const projects = (await apiRequestAll('/projects?limit=500')) || [];
           _allProjects = projects;
           renderProjectList(projects);
      } catch (e) {
@@ -745,6 +747,99 @@ function attachProjectHandlers() {
      // Note: #create-project button is handled by the delegated content click handler in init()
 }
 
+// Live updates of the open project board (SSE). Only one stream is open at a time;
+// it is closed when another page is opened.
+let projectStream = null;
+
+function closeProjectStream() {
+     if (projectStream) {
+          projectStream.abort();
+          projectStream = null;
+     }
+}
+
+function watchProject(project, tasks, pager) {
+     closeProjectStream();
+     const controller = new AbortController();
+     projectStream = controller;
+     const isCurrent = () => projectStream === controller;
+
+     // Bursts of changes (bulk edits) are rendered once
+     let renderTimer = null;
+     let resyncTimer = null;
+     const scheduleRender = () => {
+          clearTimeout(renderTimer);
+          renderTimer = setTimeout(() => {
+               if (isCurrent()) renderProjectDetail(project, tasks, pager);
+          }, 300);
+     };
+
+     apiStream(`/stream/projects/${project.id}`, async (name, data) => {
+          if (!isCurrent()) return;
+          if (name === 'task') {
+               if (data.type === 'TaskDeleted') {
+                    const index = tasks.findIndex(t => t.id === data.taskId);
+                    if (index >= 0) tasks.splice(index, 1);
+               } else if (data.type === 'TaskStatusChanged' && tasks.some(t => t.id === data.taskId)) {
+                    tasks.find(t => t.id === data.taskId).status = data.status;
+               } else {
+                    // Not loaded yet: it comes with its page
+                    if (data.type !== 'TaskCreated' && pager.hasMore && !tasks.some(t => t.id === data.taskId)) return;
+                    // New, edited or reassigned: the delta has no assignee names, fetch the task
+                    const task = await apiRequest(`/tasks/${data.taskId}`);
+                    const index = tasks.findIndex(t => t.id === data.taskId);
+                    if (index >= 0) tasks[index] = task;
+                    else tasks.push(task);
+               }
+               scheduleRender();
+          } else if (name === 'resync') {
+               // Bulk change on the server: reload the first page once instead of task by task
+               clearTimeout(resyncTimer);
+               resyncTimer = setTimeout(async () => {
+                    if (!isCurrent()) return;
+                    pager.reset();
+                    const fresh = await pager.next();
+                    tasks.splice(0, tasks.length, ...fresh);
+                    scheduleRender();
+               }, 300);
+          } else if (name === 'counters') {
+               project.counters = data;
+               const total = document.getElementById('project-total-tasks');
+               const done = document.getElementById('project-done-tasks');
+               if (total) total.textContent = data.totalTasks;
+               if (done) done.textContent = data.completedTasks;
+          } else if (name === 'project-updated' || name === 'member-added' || name === 'member-removed') {
+               loadProjectDetail(project.id);
+          } else if (name === 'project-deleted') {
+               closeProjectStream();
+               alert('This project has been deleted.');
+               loadProjects();
+          }
+     }, controller.signal)
+          .then(() => true)
+          .catch(err => {
+               if (err.name !== 'AbortError') console.warn('Project stream closed:', err.message);
+               // Not allowed to follow this project (or it is gone): do not retry
+               return err.status !== 403 && err.status !== 404;
+          })
+          .then(retry => {
+               // Ended by the server (timeout, slow connection) or a network error: resync and reconnect
+               if (!retry || !isCurrent()) return;
+               setTimeout(async () => {
+                    if (!isCurrent()) return;
+                    try {
+                         pager.reset();
+                         const fresh = await pager.next();
+                         tasks.splice(0, tasks.length, ...fresh);
+                         renderProjectDetail(project, tasks, pager);
+                         watchProject(project, tasks, pager);
+                    } catch (e) {
+                         console.warn('Could not reconnect project stream:', e.message);
+                    }
+               }, 3000);
+          });
+}
+
 async function loadProjectDetail(id) {
      requireAuth();
      hideAdmin();
@@ -752,7 +847,8 @@ async function loadProjectDetail(id) {
      content.innerHTML = `<div class="spinner"></div> Loading project...`;
      try {
           const project = await apiRequest(`/projects/${id}`);
-          const tasks = (await apiRequest(`/tasks/project/${id}`)) || [];
+          const pager = apiPager(`/tasks/project/${id}?limit=${TASK_PAGE_SIZE}&order=desc`);
+          const tasks = await pager.next();
 
           // Try to get members from leader dashboard if possible
           let members = [];
@@ -771,13 +867,18 @@ async function loadProjectDetail(id) {
 
           project.members = members; // Attach to project object for renderer
           window.currentProjectMembers = members; // Cache for edit assignees modal
-          renderProjectDetail(project, tasks);
+          renderProjectDetail(project, tasks, pager);
+          watchProject(project, tasks, pager);
      } catch (e) {
           content.innerHTML = `<p>Error: ${e.message}</p>`;
      }
 }
 
-function renderProjectDetail(project, tasks) {
+function renderProjectDetail(project, tasks, pager) {
+     // Until every page is loaded the totals come from the stream's "counters" event
+     const totalTasks = project.counters ? project.counters.totalTasks : pager.hasMore ? '…' : tasks.length;
+     const doneTasks = project.counters ? project.counters.completedTasks
+          : pager.hasMore ? '…' : tasks.filter(t => t.status === 'DONE').length;
      let html = `
         <div class="project-detail-header fade-in" style="background: white; padding: 30px; border-radius: var(--radius-lg); box-shadow: var(--shadow-sm); margin-bottom: 30px; border: 1px solid var(--border-color);">
             <div style="display: flex; justify-content: space-between; align-items: flex-start; margin-bottom: 20px;">
@@ -840,10 +941,10 @@ function renderProjectDetail(project, tasks) {
                 <h3 style="margin: 0; font-size: 18px; font-weight: 700; color: var(--gdg-dark);">Project Tasks</h3>
                 <div style="display: flex; gap: 10px;">
                     <div style="background: #f8f9fa; padding: 5px 15px; border-radius: 20px; font-size: 12px; color: var(--text-medium); border: 1px solid #eee;">
-                        <strong>${tasks.length}</strong> Total
+                        <strong id="project-total-tasks">${totalTasks}</strong> Total
                     </div>
                     <div style="background: rgba(52, 168, 83, 0.1); padding: 5px 15px; border-radius: 20px; font-size: 12px; color: var(--gdg-green); border: 1px solid rgba(52, 168, 83, 0.2);">
-                        <strong>${tasks.filter(t => t.status === 'DONE').length}</strong> Done
+                        <strong id="project-done-tasks">${doneTasks}</strong> Done
                     </div>
                 </div>
             </div>
@@ -910,9 +1011,12 @@ function renderProjectDetail(project, tasks) {
           });
           html += `</tbody></table></div>`;
      }
+     if (pager.hasMore) html += loadMoreButton('load-more-tasks', 'Load more tasks');
      html += `</div>`;
      document.getElementById('content').innerHTML = html;
 
+     onLoadMore('load-more-tasks', pager, tasks, () => renderProjectDetail(project, tasks, pager));
+
      // Handlers
      const addMemberBtn = document.getElementById('add-member-btn');
      if (addMemberBtn) {
@@ -1122,7 +1226,7 @@ async function showAddMemberModal(projectId) {
      modal.addEventListener('click', (e) => { if (e.target === modal) close(); });
 
      try {
-          const users = await apiRequest('/users');
+          const users = await apiRequestAll('/users?limit=500', 500);
           document.getElementById('member-loading').style.display = 'none';
           document.getElementById('member-form').style.display = 'block';
 
@@ -1150,6 +1254,35 @@ async function showAddMemberModal(projectId) {
 }
 
 let _allMyTasks = [];
+let _myTasksPager = null;
+
+// Task lists render their first page (newest first) and load the rest on demand
+const TASK_PAGE_SIZE = 50;
+
+function loadMoreButton(id, label) {
+     return `<div style="text-align: center; margin-top: 20px;">
+          <button class="btn btn-outline" id="${id}">${label}</button>
+     </div>`;
+}
+
+// Appends the pager's next page to items (skipping tasks already added live), then calls render
+function onLoadMore(id, pager, items, render) {
+     const btn = document.getElementById(id);
+     if (!btn) return;
+     btn.addEventListener('click', async () => {
+          btn.disabled = true;
+          btn.innerHTML = '<i class="fas fa-spinner fa-spin"></i> Loading...';
+          try {
+               const known = new Set(items.map(item => item.id));
+               items.push(...(await pager.next()).filter(item => !known.has(item.id)));
+               render();
+          } catch (err) {
+               alert('Error: ' + err.message);
+               btn.disabled = false;
+               btn.textContent = 'Load more tasks';
+          }
+     });
+}
 
 function sortTasksByStatus(tasks) {
      const statusOrder = { 'IN_PROGRESS': 1, 'IN PROGRESS': 1, 'DONE': 2, 'TODO': 3 };
@@ -1182,7 +1315,8 @@ async function loadTasks() {
      const content = document.getElementById('content');
      content.innerHTML = `<div class="spinner"></div> Loading your tasks...`;
      try {
-          const tasks = (await apiRequest('/tasks/my')) || [];
+          _myTasksPager = apiPager(`/tasks/my?limit=${TASK_PAGE_SIZE}&order=desc`);
+          const tasks = await _myTasksPager.next();
           _allMyTasks = tasks;
           renderTasks(tasks);
      } catch (e) {
@@ -1248,8 +1382,12 @@ function renderTasks(tasks, isFiltering = false) {
           });
           html += `</tbody></table></div>`;
      }
+     if (_myTasksPager && _myTasksPager.hasMore) html += loadMoreButton('load-more-my-tasks', 'Load more tasks');
      document.getElementById('content').innerHTML = html;
 
+     // Filters apply to the loaded tasks; loading more re-applies them
+     onLoadMore('load-more-my-tasks', _myTasksPager, _allMyTasks, applyMyTaskFilters);
+
      // Attach filters
      const searchBox = document.getElementById('my-task-search');
      const filterBox = document.getElementById('my-task-filter');
@@ -1321,7 +1459,7 @@ async function loadUsers() {
      content.innerHTML = `<div class="spinner"></div> Loading users...`;
 
      try {
-          const users = (await apiRequest('/users')) || [];
+          const users = (await apiRequestAll('/users?limit=500')) || [];
 
           if (Array.isArray(users)) {
                // Sort users by role priority: ADMIN (0) > LEADER (1) > MEMBER (2)
@@ -1462,6 +1600,7 @@ function renderUserList(users, isFiltering = false) {
 
 // utility for navigation UI
 function activateLink(id) {
+     closeProjectStream();
      document
           .querySelectorAll('.nav-link')
           .forEach((a) => a.classList.remove('active'));
@@ -1599,7 +1738,7 @@ if (document.readyState === 'loading') {
 async function showChangeLeaderModal(projectId) {
      let users = [];
      try {
-          users = await apiRequest('/users') || [];
+          users = await apiRequestAll('/users?limit=500', 500) || [];
      } catch (err) {
           console.error("Failed to fetch users for leader selection:", err);
      }
@@ -0,0 +1,106 @@
+package com.gdgoc.dashboard.perf;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Loads database_scripts/4_mock_data.sql into the Hibernate-generated H2 schema,
+ * {@code scale} times. Each copy gets its own firebase uids, emails and project names,
+ * so copy N is an independent club of 5 users, 3 projects and 18 tasks.
+ *
+ * The script targets the PostgreSQL schema (ids from gen_random_uuid(), a single
+ * tasks.assignee_id column), so the H2 tables get matching defaults and a temporary
+ * assignee_id column that is copied into task_assignees afterwards.
+ */
+class MockDataSeeder {
+
+    private static final Pattern PROJECT_NAME = Pattern.compile("WHERE name = '([^']+)'");
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    MockDataSeeder(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    void seed(Path script, int scale) {
+        String sql = read(script);
+        Set<String> projectNames = new LinkedHashSet<>();
+        Matcher matcher = PROJECT_NAME.matcher(sql);
+        while (matcher.find()) {
+            projectNames.add(matcher.group(1));
+        }
+
+        prepareSchema();
+        try (Connection connection = dataSource.getConnection()) {
+            for (int copy = 1; copy <= scale; copy++) {
+                String scaled = rewrite(sql, copy, projectNames);
+                ScriptUtils.executeSqlScript(connection,
+                        new EncodedResource(new ByteArrayResource(scaled.getBytes(StandardCharsets.UTF_8))));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot load mock data from " + script, e);
+        }
+        finishSchema();
+    }
+
+    /** Firebase uid of a mock user in the given copy, e.g. {@code uid(1, "member_nhi")}. */
+    static String uid(int copy, String name) {
+        return "uid" + copy + "_" + name;
+    }
+
+    /** Name of a mock project in the given copy. */
+    static String projectName(int copy, String name) {
+        return name + " #" + copy;
+    }
+
+    private static String rewrite(String sql, int copy, Set<String> projectNames) {
+        String scaled = sql.replace("'uid_", "'uid" + copy + "_")
+                .replace("@gmail.com'", "+" + copy + "@gmail.com'");
+        for (String name : projectNames) {
+            scaled = scaled.replace("'" + name + "'", "'" + projectName(copy, name) + "'");
+        }
+        return scaled;
+    }
+
+    private void prepareSchema() {
+        for (String table : new String[] { "users", "projects", "project_members", "tasks" }) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id SET DEFAULT RANDOM_UUID()");
+        }
+        jdbcTemplate.execute("ALTER TABLE users ALTER COLUMN created_at SET DEFAULT CURRENT_TIMESTAMP");
+        jdbcTemplate.execute("ALTER TABLE projects ALTER COLUMN created_at SET DEFAULT CURRENT_TIMESTAMP");
+        jdbcTemplate.execute("ALTER TABLE project_members ALTER COLUMN joined_at SET DEFAULT CURRENT_TIMESTAMP");
+        jdbcTemplate.execute("ALTER TABLE tasks ALTER COLUMN created_at SET DEFAULT CURRENT_TIMESTAMP");
+        jdbcTemplate.execute("ALTER TABLE tasks ADD COLUMN assignee_id UUID");
+    }
+
+    private void finishSchema() {
+        jdbcTemplate.update("INSERT INTO task_assignees (task_id, user_id) "
+                + "SELECT id, assignee_id FROM tasks WHERE assignee_id IS NOT NULL");
+        jdbcTemplate.execute("ALTER TABLE tasks DROP COLUMN assignee_id");
+    }
+
+    private static String read(Path script) {
+        try {
+            return Files.readString(script);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Mock data script not found: " + script.toAbsolutePath(), e);
+        }
+    }
+}
@@ -0,0 +1,458 @@
+package com.gdgoc.dashboard.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gdgoc.dashboard.GdgocDashboardApplication;
+import com.gdgoc.dashboard.entity.User;
+import com.gdgoc.dashboard.repository.UserRepository;
+import com.gdgoc.dashboard.security.LocalSigningKey;
+import com.gdgoc.dashboard.security.LocalTokenMinter;
+import com.gdgoc.dashboard.service.ContributorScoreService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Query budgets for every REST endpoint: fails (exit code 1, so the build fails) when an
+ * endpoint runs more SQL statements, loads more entities or fetches more collections than
+ * its budget below, when the statement or collection-fetch count grows with the data size,
+ * or when a controller method under /api has no budgeted call.
+ *
+ * For each scale the app boots on a random port with an in-memory H2 database holding the
+ * mock data {@code scale} times, local token verification and the dashboard cache turned
+ * off. Calls are made as the mock admin, leader and member of the first copy, one at a time;
+ * each is measured with Hibernate statistics from the moment the app is idle until it is idle
+ * again, so work done after commit by event subscribers counts too. Read calls come first,
+ * then a write scenario on a project of its own, so every scale sees the same writes.
+ *
+ * Runs in the test phase of the default build ({@code mvn test}, skipped with -DskipTests) or on
+ * its own: {@code mvn test-compile exec:exec@query-budget -Dbudget.args="scales=1,20"}.
+ * Arguments are {@code key=value}: scales (1,10), and any {@code --spring.*} / {@code --app.*}
+ * option passed through to the app.
+ */
+public class QueryBudgetCheck {
+
+    private static final Pattern VARIABLE = Pattern.compile("\\{(\\w+)}");
+    private static final Duration QUIET_PERIOD = Duration.ofMillis(300);
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private enum Caller { ANONYMOUS, ADMIN, LEADER, MEMBER }
+
+    private record Budget(long statements, long entities, long collections) {
+    }
+
+    private record Usage(long statements, long entities, long collections) {
+
+        boolean exceeds(Budget budget) {
+            return statements > budget.statements() || entities > budget.entities()
+                    || collections > budget.collections();
+        }
+
+        boolean growsFrom(Usage smaller) {
+            return statements > smaller.statements() || collections > smaller.collections();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%3d %3d %3d", statements, entities, collections);
+        }
+    }
+
+    /**
+     * One budgeted request. {@code {name}} in the path and body is replaced by a scenario
+     * variable; {@code capture} stores variables from the JSON response for later calls.
+     */
+    private record Call(String handler, Caller caller, String method, String path, String body, Budget budget,
+            Function<JsonNode, Map<String, String>> capture) {
+
+        String label() {
+            return handler + " as " + caller.name().toLowerCase();
+        }
+    }
+
+    private static final List<Call> CALLS = new ArrayList<>();
+
+    // budget(statements, entities, collection fetches). A listing loads up to a page of entities,
+    // so its entity budget is what the largest default scale loads; statements must not grow.
+    // The calls share one warm second-level cache, so users and projects an earlier call read cost nothing.
+    static {
+        // --- Reads, on the mock data ---
+        get("HealthController.health", Caller.ANONYMOUS, "/api/health", budget(0, 0, 0));
+        get("UserController.getCurrentUser", Caller.MEMBER, "/api/users/me", budget(0, 0, 0));
+        get("UserController.getUserById", Caller.MEMBER, "/api/users/{member}", budget(0, 0, 0));
+        get("UserController.getAllUsers", Caller.ADMIN, "/api/users?limit=20", budget(1, 21, 0));
+        get("ProjectController.getProjects", Caller.ADMIN, "/api/projects?limit=20", budget(3, 35, 0));
+        get("ProjectController.getProjects", Caller.MEMBER, "/api/projects?limit=20", budget(3, 4, 0));
+        get("ProjectController.getProject", Caller.MEMBER, "/api/projects/{project}", budget(2, 0, 0));
+        get("TaskController.getProjectTasks", Caller.MEMBER, "/api/tasks/project/{project}?limit=20",
+                budget(2, 16, 1));
+        get("TaskController.getTask", Caller.MEMBER, "/api/tasks/{task}", budget(1, 2, 0));
+        get("TaskController.getMyTasks", Caller.MEMBER, "/api/tasks/my?limit=20", budget(2, 5, 1));
+        get("DashboardController.getAdminDashboard", Caller.ADMIN, "/api/dashboard/admin", budget(4, 20, 0));
+        get("DashboardController.getCacheStats", Caller.ADMIN, "/api/dashboard/admin/cache-stats",
+                budget(0, 0, 0));
+        get("DashboardController.getMetrics", Caller.ADMIN, "/api/dashboard/admin/metrics", budget(0, 0, 0));
+        get("DashboardController.getLeaderDashboard", Caller.LEADER, "/api/dashboard/leader/{project}",
+                budget(3, 8, 0));
+        get("DashboardController.getMemberDashboard", Caller.MEMBER, "/api/dashboard/member", budget(1, 0, 0));
+        get("StreamController.streamProject", Caller.MEMBER, "/api/stream/projects/{project}", budget(2, 0, 0));
+
+        // --- Writes, on a project created for the scenario ---
+        // Every call that moves contributor scores also reads the shared "as of" date under a share lock
+        call("AuthController.login", Caller.ANONYMOUS, "POST", "/api/auth/login",
+                "{\"idToken\": \"{newUserToken}\"}", budget(5, 0, 0),
+                response -> Map.of("newUser", response.get("id").asText()));
+        call("ProjectController.createProject", Caller.ADMIN, "POST", "/api/projects",
+                "{\"name\": \"Budget project\", \"leaderId\": \"{leader}\", "
+                        + "\"startDate\": \"2026-01-01\", \"endDate\": \"2026-12-31\"}",
+                budget(4, 0, 0),
+                response -> Map.of("newProject", response.get("id").asText()));
+        call("ProjectController.updateProject", Caller.ADMIN, "PUT", "/api/projects/{newProject}",
+                "{\"name\": \"Budget project (renamed)\", \"description\": \"Query budget scenario\"}",
+                budget(3, 0, 0), null);
+        call("ProjectController.addMember", Caller.ADMIN, "POST", "/api/projects/{newProject}/members",
+                "{\"userId\": \"{member}\"}", budget(4, 0, 0), null);
+        call("TaskController.createTask", Caller.LEADER, "POST", "/api/tasks/project/{newProject}",
+                "{\"title\": \"Budget task\", \"priority\": \"MEDIUM\", \"deadline\": \"" + LocalDate.now().plusDays(7)
+                        + "\", \"assigneeIds\": [\"{member}\"]}",
+                budget(7, 1, 0),
+                response -> Map.of("newTask", response.get("id").asText()));
+        call("TaskController.createTasks", Caller.LEADER, "POST", "/api/tasks/project/{newProject}/bulk",
+                bulkCreateBody(10), budget(7, 1, 0), QueryBudgetCheck::captureBulkTasks);
+        call("TaskController.updateTask", Caller.LEADER, "PUT", "/api/tasks/{newTask}",
+                "{\"title\": \"Budget task (edited)\", \"priority\": \"HIGH\", "
+                        + "\"assigneeIds\": [\"{member}\", \"{leader}\"]}",
+                budget(9, 3, 0), null);
+        call("TaskController.updateTaskStatus", Caller.MEMBER, "PUT", "/api/tasks/{newTask}/status",
+                "{\"status\": \"IN_PROGRESS\"}", budget(3, 3, 0), null);
+        call("TaskController.updateTaskStatuses", Caller.LEADER, "PUT", "/api/tasks/bulk/status",
+                "{\"items\": [{bulkStatusItems}]}", budget(5, 13, 0), null);
+        call("TaskController.reassignTasks", Caller.LEADER, "PUT", "/api/tasks/bulk/assignees",
+                "{\"items\": [{bulkAssigneeItems}]}", budget(10, 14, 0), null);
+        call("TaskController.deleteTasks", Caller.LEADER, "POST", "/api/tasks/bulk/delete",
+                "{\"taskIds\": [{bulkTaskIds}]}", budget(6, 13, 0), null);
+        call("TaskController.deleteTask", Caller.LEADER, "DELETE", "/api/tasks/{newTask}", null,
+                budget(7, 3, 0), null);
+        call("ProjectController.removeMember", Caller.ADMIN, "DELETE",
+                "/api/projects/{newProject}/members/{member}", null, budget(2, 1, 0), null);
+        call("ProjectController.deleteProject", Caller.ADMIN, "DELETE", "/api/projects/{newProject}", null,
+                budget(6, 1, 2), null);
+        call("UserController.updateRole", Caller.ADMIN, "PATCH", "/api/users/{newUser}/role",
+                "{\"role\": \"LEADER\"}", budget(1, 0, 0), null);
+        call("UserController.updateProfile", Caller.MEMBER, "PUT", "/api/users/me/name",
+                "{\"displayName\": \"Budget Member\"}", budget(1, 0, 0), null);
+    }
+
+    private final Map<String, String> options = new HashMap<>();
+    private final List<String> appArgs = new ArrayList<>();
+
+    public static void main(String[] args) throws Exception {
+        System.exit(new QueryBudgetCheck(args).run() ? 0 : 1);
+    }
+
+    QueryBudgetCheck(String[] args) {
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                appArgs.add(arg);
+            } else if (arg.contains("=")) {
+                options.put(arg.substring(0, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+    }
+
+    boolean run() throws Exception {
+        List<Integer> scales = new ArrayList<>();
+        for (String scale : options.getOrDefault("scales", "1,10").split(",")) {
+            scales.add(Integer.parseInt(scale.trim()));
+        }
+        List<Map<Call, Usage>> usages = new ArrayList<>();
+        Set<String> problems = new LinkedHashSet<>();
+        for (int scale : scales) {
+            usages.add(measure(scale, problems));
+        }
+
+        System.out.printf("%n%-58s", "endpoint (statements entities collections)");
+        scales.forEach(scale -> System.out.printf(" %13s", "scale " + scale));
+        System.out.printf(" %13s%n", "budget");
+        for (Call call : CALLS) {
+            System.out.printf("%-58s", call.label());
+            Usage smallest = null;
+            for (int i = 0; i < scales.size(); i++) {
+                Usage usage = usages.get(i).get(call);
+                System.out.printf(" %13s", usage == null ? "-" : usage);
+                if (usage == null) {
+                    continue;
+                }
+                if (usage.exceeds(call.budget())) {
+                    problems.add(call.label() + " over budget at scale " + scales.get(i) + ": " + usage);
+                }
+                if (smallest != null && usage.growsFrom(smallest)) {
+                    problems.add(call.label() + " grows with data size: " + smallest + " -> " + usage
+                            + " at scale " + scales.get(i));
+                }
+                if (smallest == null) {
+                    smallest = usage;
+                }
+            }
+            System.out.printf(" %13s%n", new Usage(call.budget().statements(), call.budget().entities(),
+                    call.budget().collections()));
+        }
+
+        if (problems.isEmpty()) {
+            System.out.printf("%nAll %d calls within their query budget.%n", CALLS.size());
+            return true;
+        }
+        System.out.printf("%nQuery budget check failed:%n");
+        problems.forEach(problem -> System.out.println("  " + problem));
+        return false;
+    }
+
+    private Map<Call, Usage> measure(int scale, Set<String> problems) throws Exception {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.main.banner-mode=off",
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:budget_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=true",
+                "--logging.level.root=WARN",
+                "--app.auth.verifier=local",
+                "--app.auth.local.key-file=" + LocalTokenMinter.DEFAULT_KEY_FILE,
+                "--app.dashboard.cache.admin.ttl=0s",
+                "--app.dashboard.cache.leader.ttl=0s",
+                "--app.dashboard.cache.member.ttl=0s",
+                // Statistics are global: the scheduled score rollover would count against whatever call is running
+                "--app.contributor-scores.rollover-cron=-"));
+        args.addAll(appArgs);
+
+        System.out.printf("== scale %d: starting and seeding...%n", scale);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(GdgocDashboardApplication.class)
+                .profiles("dev")
+                .run(args.toArray(String[]::new));
+        try {
+            new MockDataSeeder(context.getBean(DataSource.class))
+                    .seed(Path.of(System.getProperty("perf.mock-data", "database_scripts/4_mock_data.sql")), scale);
+            // Seeded with plain JDBC: nothing read during startup may stay in the second-level cache
+            context.getBean(EntityManagerFactory.class).getCache().unwrap(Cache.class).evictAllRegions();
+            context.getBean(ContributorScoreService.class).rebuild();
+            checkCoverage(context, problems);
+
+            String port = context.getEnvironment().getProperty("local.server.port");
+            String contextPath = context.getEnvironment().getProperty("server.servlet.context-path", "");
+            Statistics statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class)
+                    .getStatistics();
+            return new Scenario(context, statistics, "http://localhost:" + port + contextPath).run(problems);
+        } finally {
+            context.close();
+        }
+    }
+
+    // Every controller method under /api needs at least one budgeted call
+    private static void checkCoverage(ConfigurableApplicationContext context, Set<String> problems) {
+        Set<String> budgeted = new HashSet<>();
+        CALLS.forEach(call -> budgeted.add(call.handler()));
+        RequestMappingHandlerMapping mapping = context.getBean("requestMappingHandlerMapping",
+                RequestMappingHandlerMapping.class);
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : mapping.getHandlerMethods().entrySet()) {
+            boolean api = entry.getKey().getPatternValues().stream().anyMatch(pattern -> pattern.startsWith("/api/"));
+            HandlerMethod handler = entry.getValue();
+            String name = handler.getBeanType().getSimpleName() + "." + handler.getMethod().getName();
+            if (api && !budgeted.contains(name)) {
+                problems.add(name + " has no query budget " + entry.getKey().getPatternValues());
+            }
+        }
+    }
+
+    /**
+     * The calls against one running app, with the variables they share.
+     */
+    private static final class Scenario {
+
+        private final Statistics statistics;
+        private final String baseUrl;
+        private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        private final Map<String, String> variables = new HashMap<>();
+        private final Map<Caller, String> tokens = new EnumMap<>(Caller.class);
+
+        Scenario(ConfigurableApplicationContext context, Statistics statistics, String baseUrl) {
+            this.statistics = statistics;
+            this.baseUrl = baseUrl;
+
+            LocalTokenMinter minter = new LocalTokenMinter(
+                    LocalSigningKey.loadOrCreate(Path.of(LocalTokenMinter.DEFAULT_KEY_FILE)));
+            UserRepository userRepository = context.getBean(UserRepository.class);
+            Map<Caller, String> mockUsers = Map.of(
+                    Caller.ADMIN, "admin_tuan", Caller.LEADER, "leader_mai", Caller.MEMBER, "member_nhi");
+            mockUsers.forEach((caller, name) -> {
+                User user = userRepository.findByFirebaseUid(MockDataSeeder.uid(1, name)).orElseThrow();
+                tokens.put(caller, minter.mint(user.getFirebaseUid(), user.getEmail(), user.getDisplayName(),
+                        Duration.ofHours(1)));
+                variables.put(caller.name().toLowerCase(), user.getId().toString());
+            });
+            variables.put("newUserToken", minter.mint("budget_new_user", "budget.new@gmail.com", "Budget New User",
+                    Duration.ofHours(1)));
+
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+            String project = jdbcTemplate.queryForObject("SELECT id FROM projects WHERE name = ?", String.class,
+                    MockDataSeeder.projectName(1, "GDGoC Performance Dashboard"));
+            variables.put("project", project);
+            variables.put("task", jdbcTemplate.queryForObject(
+                    "SELECT id FROM tasks WHERE project_id = ? ORDER BY title LIMIT 1", String.class,
+                    UUID.fromString(project)));
+        }
+
+        Map<Call, Usage> run(Set<String> problems) throws Exception {
+            // Verify every token once, so token verification is not part of any call
+            for (Caller caller : tokens.keySet()) {
+                send(new Call("warmup", caller, "GET", "/api/users/me", null, null, null));
+            }
+
+            Map<Call, Usage> usages = new LinkedHashMap<>();
+            for (Call call : CALLS) {
+                awaitIdle();
+                long statements = statistics.getPrepareStatementCount();
+                long entities = statistics.getEntityLoadCount();
+                long collections = statistics.getCollectionFetchCount();
+                int status = send(call);
+                awaitIdle();
+                if (status >= 400) {
+                    problems.add(call.label() + " failed with HTTP " + status);
+                    continue;
+                }
+                usages.put(call, new Usage(statistics.getPrepareStatementCount() - statements,
+                        statistics.getEntityLoadCount() - entities,
+                        statistics.getCollectionFetchCount() - collections));
+            }
+            return usages;
+        }
+
+        private int send(Call call) throws Exception {
+            String body = call.body() == null ? null : resolve(call.body());
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + resolve(call.path())))
+                    .timeout(Duration.ofSeconds(30))
+                    .method(call.method(), body == null
+                            ? HttpRequest.BodyPublishers.noBody()
+                            : HttpRequest.BodyPublishers.ofString(body));
+            if (body != null) {
+                request.header("Content-Type", "application/json");
+            }
+            if (call.caller() != Caller.ANONYMOUS) {
+                request.header("Authorization", "Bearer " + tokens.get(call.caller()));
+            }
+            // Streams stay open: read the status and headers only
+            HttpResponse<InputStream> response = client.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream stream = response.body()) {
+                if (response.statusCode() < 400 && call.capture() != null) {
+                    variables.putAll(call.capture().apply(JSON.readTree(stream)));
+                }
+            }
+            return response.statusCode();
+        }
+
+        // Captured values may refer to other variables, so resolve until nothing is left
+        private String resolve(String template) {
+            String resolved = template;
+            while (VARIABLE.matcher(resolved).find()) {
+                resolved = resolveOnce(resolved);
+            }
+            return resolved;
+        }
+
+        private String resolveOnce(String template) {
+            Matcher matcher = VARIABLE.matcher(template);
+            StringBuilder resolved = new StringBuilder();
+            while (matcher.find()) {
+                String value = variables.get(matcher.group(1));
+                if (value == null) {
+                    throw new IllegalStateException("No value for {" + matcher.group(1) + "} in " + template);
+                }
+                matcher.appendReplacement(resolved, Matcher.quoteReplacement(value));
+            }
+            return matcher.appendTail(resolved).toString();
+        }
+
+        // Idle = no statement prepared for a quiet period (after-commit subscribers run asynchronously)
+        private void awaitIdle() throws InterruptedException {
+            long last = statistics.getPrepareStatementCount();
+            long quietSince = System.nanoTime();
+            while (System.nanoTime() - quietSince < QUIET_PERIOD.toNanos()) {
+                Thread.sleep(25);
+                long current = statistics.getPrepareStatementCount();
+                if (current != last) {
+                    last = current;
+                    quietSince = System.nanoTime();
+                }
+            }
+        }
+    }
+
+    private static void get(String handler, Caller caller, String path, Budget budget) {
+        CALLS.add(new Call(handler, caller, "GET", path, null, budget, null));
+    }
+
+    private static void call(String handler, Caller caller, String method, String path, String body, Budget budget,
+            Function<JsonNode, Map<String, String>> capture) {
+        CALLS.add(new Call(handler, caller, method, path, body, budget, capture));
+    }
+
+    private static Budget budget(long statements, long entities, long collections) {
+        return new Budget(statements, entities, collections);
+    }
+
+    private static String bulkCreateBody(int count) {
+        List<String> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tasks.add("{\"title\": \"Budget bulk task " + i + "\", \"priority\": \"LOW\", "
+                    + "\"assigneeIds\": [\"{member}\"]}");
+        }
+        // Assignees are optional: one item leaves them out
+        tasks.add("{\"title\": \"Budget bulk task unassigned\", \"priority\": \"LOW\"}");
+        return "{\"tasks\": [" + String.join(", ", tasks) + "]}";
+    }
+
+    private static Map<String, String> captureBulkTasks(JsonNode response) {
+        List<String> ids = new ArrayList<>();
+        List<String> statusItems = new ArrayList<>();
+        List<String> assigneeItems = new ArrayList<>();
+        for (JsonNode result : response.get("results")) {
+            String id = "\"" + result.get("taskId").asText() + "\"";
+            ids.add(id);
+            statusItems.add("{\"taskId\": " + id + ", \"status\": \"DONE\"}");
+            assigneeItems.add("{\"taskId\": " + id + ", \"assigneeIds\": [\"{leader}\"]}");
+        }
+        return Map.of(
+                "bulkTaskIds", String.join(", ", ids),
+                "bulkStatusItems", String.join(", ", statusItems),
+                "bulkAssigneeItems", String.join(", ", assigneeItems));
+    }
+}
@@ -0,0 +1,80 @@
+package com.gdgoc.dashboard.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Regions of the Hibernate second-level cache (JCache on Caffeine) for the rarely-changing
+ * reference data: users, projects and project memberships, plus the query cache.
+ *
+ * Each region is created here, bounded and with a TTL; Hibernate fails at startup on a
+ * region that is not listed instead of creating an unbounded one. Entities are cached
+ * read-write, so writes through Hibernate (entities and JPQL bulk statements) update or
+ * evict them; the TTL only bounds staleness after writes that bypass Hibernate.
+ * The second-level and query caches are switched with
+ * {@code spring.jpa.properties.hibernate.cache.use_second_level_cache / use_query_cache}.
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    public static final List<String> ENTITY_REGIONS = List.of("users", "projects", "project-members");
+    public static final String QUERY_RESULTS_REGION = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+    public static final String UPDATE_TIMESTAMPS_REGION =
+            RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(
+            @Value("${app.entity-cache.max-size:50000}") long maxSize,
+            @Value("${app.entity-cache.ttl:10m}") Duration ttl,
+            @Value("${app.entity-cache.query-results.max-size:10000}") long queryMaxSize,
+            @Value("${app.entity-cache.query-results.ttl:5m}") Duration queryTtl) {
+        // A manager of its own per context, so contexts in the same JVM (benchmarks) do not share entries
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("entity-cache-" + UUID.randomUUID()), getClass().getClassLoader());
+        for (String region : ENTITY_REGIONS) {
+            cacheManager.createCache(region, region(maxSize, ttl));
+        }
+        // Query results hold entity ids: expire before the entities they point to
+        cacheManager.createCache(QUERY_RESULTS_REGION, region(queryMaxSize, queryTtl));
+        // One entry per table; must never be evicted, or cached query results would outlive a write
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, region(null, null));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(Long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Hibernate stores its own immutable cache entries: no copy on every get and put
+        configuration.setStoreByValue(false);
+        configuration.setNativeStatisticsEnabled(true);
+        if (maxSize != null) {
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+        }
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        return configuration;
+    }
+}
@@ -0,0 +1,313 @@
+package com.gdgoc.dashboard.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The frontend as an in-memory asset bundle, built once at startup when
+ * {@code app.frontend.pipeline.enabled} is set (the "prod" profile does).
+ *
+ * Every file except the HTML pages gets a content hash in its name (app.js becomes
+ * app.1a2b3c4d5e.js), and references to it are rewritten: src/href attributes in pages,
+ * relative module specifiers in scripts and url() / @import in stylesheets. A file's hash
+ * therefore also covers everything it references, so hashed files can be cached as immutable
+ * and a deploy only changes the names of what actually changed. Pages keep their names and
+ * are revalidated with their ETag. env.js ({@link FrontendEnv}) is bundled like any script.
+ *
+ * Text files are gzipped here once, at the highest level, instead of per response. Pages also
+ * get modulepreload links for the static imports of their module scripts, so the browser
+ * fetches the whole module graph in parallel instead of one import level at a time.
+ */
+@Component
+@Slf4j
+public class FrontendAssets {
+
+    private static final Set<String> TEXT_TYPES = Set.of("html", "js", "mjs", "css", "svg", "json", "txt", "xml");
+
+    private static final Pattern HTML_REFERENCE = Pattern.compile("(\\s(?:src|href)\\s*=\\s*\")([^\"]+)(\")");
+    private static final Pattern MODULE_SCRIPT = Pattern.compile(
+            "<script\\b[^>]*\\btype=\"module\"[^>]*\\bsrc=\"([^\"]+)\"|<script\\b[^>]*\\bsrc=\"([^\"]+)\"[^>]*\\btype=\"module\"");
+    private static final Pattern HEAD_END = Pattern.compile("</head>", Pattern.CASE_INSENSITIVE);
+    // from './x.js', import './x.js' and import('./x.js'); only relative specifiers are local files
+    private static final Pattern JS_SPECIFIER = Pattern.compile("(\\bfrom\\s*|\\bimport\\s*(\\(\\s*)?)(['\"])(\\.{1,2}/[^'\"\\s]+)\\3");
+    private static final Pattern CSS_REFERENCE = Pattern.compile(
+            "(url\\(\\s*['\"]?)([^'\")\\s]+)(['\"]?\\s*\\))|(@import\\s+['\"])([^'\"]+)(['\"])");
+
+    /**
+     * One served file: its bytes, the gzipped bytes if that is smaller, and a strong ETag.
+     * Immutable assets have a content hash in their path.
+     */
+    public record Asset(String path, byte[] content, byte[] gzip, String etag, boolean immutable) {
+    }
+
+    private final boolean enabled;
+    private final Map<String, byte[]> sources = new TreeMap<>();
+    private final Map<String, Asset> bySource = new HashMap<>();
+    // Source paths of the modules each script imports statically
+    private final Map<String, List<String>> staticImports = new HashMap<>();
+    private final Set<String> building = new HashSet<>();
+    private final Map<String, Asset> assets;
+
+    public FrontendAssets(
+            @Value("${app.frontend.pipeline.enabled:false}") boolean enabled,
+            @Value("${app.frontend.path:frontend}") String frontendPath,
+            FrontendEnv frontendEnv) {
+        this.enabled = enabled;
+        if (!enabled) {
+            this.assets = Map.of();
+            return;
+        }
+        Path base = Paths.get("").toAbsolutePath().resolve(frontendPath);
+        try (Stream<Path> files = Files.walk(base)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                String path = base.relativize(file).toString().replace('\\', '/');
+                if (!isHidden(path) && !path.endsWith(".example")) {
+                    sources.put(path, Files.readAllBytes(file));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read frontend assets from " + base, e);
+        }
+        // Rendered by the server; wins over a local frontend/env.js, as the /env.js endpoint does
+        sources.put("env.js", frontendEnv.script());
+
+        Map<String, Asset> built = new HashMap<>();
+        for (String path : sources.keySet()) {
+            Asset asset = build(path);
+            built.put(asset.path(), asset);
+        }
+        this.assets = Collections.unmodifiableMap(built);
+
+        long bytes = assets.values().stream().mapToLong(asset -> asset.content().length).sum();
+        long gzipped = assets.values().stream()
+                .mapToLong(asset -> asset.gzip() != null ? asset.gzip().length : asset.content().length)
+                .sum();
+        log.info("Frontend asset pipeline: {} files from {}, {} KiB ({} KiB gzipped)",
+                assets.size(), base, bytes / 1024, gzipped / 1024);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * The asset served at this path (relative to the context path, no leading slash), or null.
+     */
+    public Asset get(String path) {
+        return assets.get(path);
+    }
+
+    public Map<String, Asset> all() {
+        return assets;
+    }
+
+    /**
+     * Hex SHA-256 prefix of the content, used for ETags and hashed file names.
+     */
+    public static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private Asset build(String path) {
+        Asset done = bySource.get(path);
+        if (done != null) {
+            return done;
+        }
+        if (!building.add(path)) {
+            throw new IllegalStateException("Frontend assets reference each other in a cycle: " + building);
+        }
+        byte[] content = sources.get(path);
+        String type = extension(path);
+        boolean page = type.equals("html");
+        if (page) {
+            content = rewritePage(path, new String(content, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+        } else if (type.equals("js") || type.equals("mjs")) {
+            content = rewriteScript(path, new String(content, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+        } else if (type.equals("css")) {
+            content = rewriteStylesheet(path, new String(content, StandardCharsets.UTF_8))
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+
+        String hash = hash(content);
+        byte[] gzip = TEXT_TYPES.contains(type) ? gzip(content) : null;
+        if (gzip != null && gzip.length >= content.length) {
+            gzip = null;
+        }
+        Asset asset = new Asset(page ? path : hashedName(path, hash.substring(0, 10)), content, gzip,
+                "\"" + hash + "\"", !page);
+        building.remove(path);
+        bySource.put(path, asset);
+        return asset;
+    }
+
+    private String rewritePage(String path, String html) {
+        Set<String> preload = new LinkedHashSet<>();
+        Set<String> entries = new HashSet<>();
+        Matcher scripts = MODULE_SCRIPT.matcher(html);
+        while (scripts.find()) {
+            String target = resolve(path, scripts.group(1) != null ? scripts.group(1) : scripts.group(2));
+            if (target != null) {
+                entries.add(target);
+                collectStaticImports(target, preload);
+            }
+        }
+        preload.removeAll(entries);
+
+        String rewritten = replace(HTML_REFERENCE, html, matcher ->
+                matcher.group(1) + rewriteReference(path, matcher.group(2)) + matcher.group(3));
+        if (preload.isEmpty()) {
+            return rewritten;
+        }
+        Matcher headEnd = HEAD_END.matcher(rewritten);
+        if (!headEnd.find()) {
+            return rewritten;
+        }
+        StringBuilder links = new StringBuilder();
+        for (String module : preload) {
+            links.append("     <link rel=\"modulepreload\" href=\"")
+                    .append(relative(path, build(module).path()))
+                    .append("\" />\n");
+        }
+        return rewritten.substring(0, headEnd.start()) + links + rewritten.substring(headEnd.start());
+    }
+
+    private String rewriteScript(String path, String js) {
+        List<String> imports = new ArrayList<>();
+        String rewritten = replace(JS_SPECIFIER, js, matcher -> {
+            String target = resolve(path, matcher.group(4));
+            if (target != null && matcher.group(2) == null) {
+                imports.add(target);
+            }
+            return matcher.group(1) + matcher.group(3) + rewriteReference(path, matcher.group(4)) + matcher.group(3);
+        });
+        staticImports.put(path, imports);
+        return rewritten;
+    }
+
+    private String rewriteStylesheet(String path, String css) {
+        return replace(CSS_REFERENCE, css, matcher -> matcher.group(1) != null
+                ? matcher.group(1) + rewriteReference(path, matcher.group(2)) + matcher.group(3)
+                : matcher.group(4) + rewriteReference(path, matcher.group(5)) + matcher.group(6));
+    }
+
+    private void collectStaticImports(String module, Set<String> into) {
+        build(module);
+        for (String imported : staticImports.getOrDefault(module, List.of())) {
+            if (into.add(imported)) {
+                collectStaticImports(imported, into);
+            }
+        }
+    }
+
+    /**
+     * The reference with its file name replaced by the hashed one, or unchanged if it is not a bundled
+     * file or is a page (pages keep their names, and may link to each other).
+     */
+    private String rewriteReference(String from, String reference) {
+        String target = resolve(from, reference);
+        if (target == null || extension(target).equals("html")) {
+            return reference;
+        }
+        String served = build(target).path();
+        return reference.substring(0, reference.lastIndexOf('/') + 1) + served.substring(served.lastIndexOf('/') + 1);
+    }
+
+    // Source path a relative reference points to, or null for external, absolute or unknown references
+    private String resolve(String from, String reference) {
+        if (reference.isEmpty() || reference.startsWith("/") || reference.startsWith("#")
+                || reference.contains(":") || reference.contains("?")) {
+            return null;
+        }
+        try {
+            String path = URI.create("/" + from).resolve(reference).getPath().substring(1);
+            return sources.containsKey(path) ? path : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String relative(String from, String to) {
+        int slash = from.lastIndexOf('/');
+        Path dir = Paths.get(slash < 0 ? "" : from.substring(0, slash));
+        return dir.relativize(Paths.get(to)).toString().replace('\\', '/');
+    }
+
+    private static String replace(Pattern pattern, String text,
+            Function<Matcher, String> replacement) {
+        Matcher matcher = pattern.matcher(text);
+        StringBuilder out = new StringBuilder(text.length());
+        while (matcher.find()) {
+            matcher.appendReplacement(out, Matcher.quoteReplacement(replacement.apply(matcher)));
+        }
+        matcher.appendTail(out);
+        return out.toString();
+    }
+
+    private static String hashedName(String path, String hash) {
+        int slash = path.lastIndexOf('/');
+        int dot = path.lastIndexOf('.');
+        return dot > slash ? path.substring(0, dot) + "." + hash + path.substring(dot) : path + "." + hash;
+    }
+
+    private static String extension(String path) {
+        int slash = path.lastIndexOf('/');
+        int dot = path.lastIndexOf('.');
+        return dot > slash ? path.substring(dot + 1).toLowerCase() : "";
+    }
+
+    private static boolean isHidden(String path) {
+        for (String segment : path.split("/")) {
+            if (segment.startsWith(".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 3 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -1,22 +1,44 @@
 package com.gdgoc.dashboard.config;
 
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Serve frontend static files from project directory "frontend/".
  * When running with context-path /gdgoc_dashboard, open:
  * http://localhost:8080/gdgoc_dashboard/ or http://localhost:8080/gdgoc_dashboard/index.html
+ *
+ * By default files are read from disk on every request and never cached, so edits show up on
+ * reload. With app.frontend.pipeline.enabled the prebuilt {@link FrontendAssets} bundle is served
+ * instead: content-hashed files as immutable for a year, pages with no-cache (revalidated by
+ * ETag), and the gzipped copy to clients that accept it.
  */
 @Configuration
+@RequiredArgsConstructor
 public class FrontendConfig implements WebMvcConfigurer {
 
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private final FrontendAssets frontendAssets;
+
     @Value("${app.frontend.path:frontend}")
     private String frontendPath;
 
@@ -27,6 +49,15 @@ public class FrontendConfig implements WebMvcConfigurer {
         if (!location.endsWith("/")) {
             location += "/";
         }
+        if (frontendAssets.isEnabled()) {
+            registry.addResourceHandler("/**")
+                    .addResourceLocations(location)
+                    .setUseLastModified(false)
+                    .setEtagGenerator(resource -> ((AssetResource) resource).etag)
+                    .resourceChain(false)
+                    .addResolver(new AssetResolver(frontendAssets));
+            return;
+        }
         registry.addResourceHandler("/**")
                 .addResourceLocations(location)
                 .setCachePeriod(0);
@@ -36,4 +67,63 @@ public class FrontendConfig implements WebMvcConfigurer {
     public void addViewControllers(ViewControllerRegistry registry) {
         registry.addViewController("/").setViewName("forward:/index.html");
     }
+
+    /**
+     * Resolves request paths against the asset bundle only; anything else is a 404.
+     */
+    private record AssetResolver(FrontendAssets assets) implements ResourceResolver {
+
+        @Override
+        public Resource resolveResource(HttpServletRequest request, String requestPath,
+                List<? extends Resource> locations, ResourceResolverChain chain) {
+            FrontendAssets.Asset asset = assets.get(requestPath);
+            if (asset == null) {
+                return null;
+            }
+            String acceptEncoding = request != null ? request.getHeader(HttpHeaders.ACCEPT_ENCODING) : null;
+            boolean gzip = asset.gzip() != null && acceptEncoding != null
+                    && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+            return new AssetResource(asset, gzip);
+        }
+
+        @Override
+        public String resolveUrlPath(String resourcePath, List<? extends Resource> locations,
+                ResourceResolverChain chain) {
+            return assets.get(resourcePath) != null ? resourcePath : null;
+        }
+    }
+
+    /**
+     * One representation of an asset, with the headers the resource handler copies to the response.
+     */
+    private static final class AssetResource extends ByteArrayResource implements HttpResource {
+
+        private final String filename;
+        private final String etag;
+        private final HttpHeaders headers = new HttpHeaders();
+
+        private AssetResource(FrontendAssets.Asset asset, boolean gzip) {
+            super(gzip ? asset.gzip() : asset.content());
+            this.filename = asset.path().substring(asset.path().lastIndexOf('/') + 1);
+            // Each encoding is its own representation, with its own strong ETag
+            this.etag = gzip ? asset.etag().replaceFirst("\"$", "-gzip\"") : asset.etag();
+            headers.setCacheControl(asset.immutable() ? IMMUTABLE : CacheControl.noCache());
+            if (asset.gzip() != null) {
+                headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+            }
+            if (gzip) {
+                headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+        }
+
+        @Override
+        public String getFilename() {
+            return filename;
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            return headers;
+        }
+    }
 }
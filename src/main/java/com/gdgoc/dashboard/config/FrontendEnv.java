@@ -0,0 +1,87 @@
+package com.gdgoc.dashboard.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The env.js module that gives the frontend BACKEND_URL and the Firebase web config.
+ * Frontend imports: import { env } from './env.js'
+ * When running from same origin, BACKEND_URL is relative so API calls work without CORS.
+ *
+ * The configuration cannot change while the app runs, so the script is rendered once.
+ */
+@Component
+public class FrontendEnv {
+
+    @Value("${app.frontend.backend-url:/gdgoc_dashboard/api}")
+    private String backendUrl;
+
+    @Value("${app.frontend.firebase.api-key:}")
+    private String firebaseApiKey;
+    @Value("${app.frontend.firebase.auth-domain:}")
+    private String firebaseAuthDomain;
+    @Value("${app.frontend.firebase.project-id:}")
+    private String firebaseProjectId;
+    @Value("${app.frontend.firebase.storage-bucket:}")
+    private String firebaseStorageBucket;
+    @Value("${app.frontend.firebase.messaging-sender-id:}")
+    private String firebaseMessagingSenderId;
+    @Value("${app.frontend.firebase.app-id:}")
+    private String firebaseAppId;
+    @Value("${app.frontend.firebase.measurement-id:}")
+    private String firebaseMeasurementId;
+
+    private byte[] script;
+    private String etag;
+
+    @PostConstruct
+    void render() {
+        String js = """
+            export const env = {
+              BACKEND_URL: "%s",
+              FIREBASE_API_KEY: "%s",
+              FIREBASE_AUTH_DOMAIN: "%s",
+              FIREBASE_PROJECT_ID: "%s",
+              FIREBASE_STORAGE_BUCKET: "%s",
+              FIREBASE_MESSAGING_SENDER_ID: "%s",
+              FIREBASE_APP_ID: "%s",
+              FIREBASE_MEASUREMENT_ID: "%s"
+            };
+            """
+                .formatted(
+                    escapeJs(backendUrl),
+                    escapeJs(firebaseApiKey),
+                    escapeJs(firebaseAuthDomain),
+                    escapeJs(firebaseProjectId),
+                    escapeJs(firebaseStorageBucket),
+                    escapeJs(firebaseMessagingSenderId),
+                    escapeJs(firebaseAppId),
+                    escapeJs(firebaseMeasurementId)
+                )
+                .trim();
+        script = js.getBytes(StandardCharsets.UTF_8);
+        etag = "\"" + FrontendAssets.hash(script) + "\"";
+    }
+
+    /**
+     * The script as UTF-8. Callers must not modify the array.
+     */
+    public byte[] script() {
+        return script;
+    }
+
+    public String etag() {
+        return etag;
+    }
+
+    private static String escapeJs(String s) {
+        if (s == null) return "";
+        return s.replace("\\", "\\\\")
+                .replace("\"", "\\\"")
+                .replace("\n", "\\n")
+                .replace("\r", "\\r");
+    }
+}
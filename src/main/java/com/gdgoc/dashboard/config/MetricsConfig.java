@@ -0,0 +1,140 @@
+package com.gdgoc.dashboard.config;
+
+import com.gdgoc.dashboard.dto.response.CacheRegionStats;
+import com.gdgoc.dashboard.metrics.EntityCacheStats;
+import com.gdgoc.dashboard.metrics.StatementMetrics;
+import com.gdgoc.dashboard.service.DashboardCache;
+import com.gdgoc.dashboard.service.ProjectStreamService;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Application meters, next to the ones Spring Boot binds itself (HTTP requests per endpoint,
+ * Spring Data repository invocations per method, Hikari pool). Latency distributions and
+ * percentiles are configured under {@code management.metrics.distribution} in application.yml.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final List<String> CACHE_REGIONS = List.of("admin", "leader", "member");
+
+    @Bean
+    public StatementMetrics statementMetrics(MeterRegistry registry) {
+        return new StatementMetrics(registry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementMetricsCustomizer(StatementMetrics statementMetrics) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementMetrics);
+    }
+
+    /**
+     * Adds a {@code handler} tag (e.g. {@code TaskController.getTasksByProject}) to
+     * http.server.requests, so latency is reported per controller method.
+     */
+    @Bean
+    public ServerRequestObservationConvention handlerTagObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                Object handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+                String name = handler instanceof HandlerMethod method
+                        ? method.getBeanType().getSimpleName() + "." + method.getMethod().getName()
+                        : "none";
+                return super.getLowCardinalityKeyValues(context).and("handler", name);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder dashboardCacheMetrics(DashboardCache dashboardCache) {
+        return registry -> {
+            for (String region : CACHE_REGIONS) {
+                Gauge.builder("dashboard.cache.size", dashboardCache, regionStat(region, CacheRegionStats::getSize))
+                        .tag("region", region)
+                        .register(registry);
+                FunctionCounter.builder("dashboard.cache.hits", dashboardCache,
+                                regionStat(region, CacheRegionStats::getHits))
+                        .tag("region", region)
+                        .register(registry);
+                FunctionCounter.builder("dashboard.cache.misses", dashboardCache,
+                                regionStat(region, CacheRegionStats::getMisses))
+                        .tag("region", region)
+                        .register(registry);
+                FunctionCounter.builder("dashboard.cache.evictions", dashboardCache,
+                                regionStat(region, CacheRegionStats::getEvictions))
+                        .tag("region", region)
+                        .register(registry);
+                FunctionCounter.builder("dashboard.cache.invalidations", dashboardCache,
+                                regionStat(region, CacheRegionStats::getInvalidations))
+                        .tag("region", region)
+                        .register(registry);
+            }
+        };
+    }
+
+    /**
+     * Hibernate second-level cache regions as the standard {@code cache.*} meters (tag cache=region).
+     */
+    @Bean
+    public MeterBinder entityCacheMetrics(EntityCacheStats entityCacheStats) {
+        return registry -> entityCacheStats.regions()
+                .forEach((region, cache) -> CaffeineCacheMetrics.monitor(registry, cache, "hibernate." + region));
+    }
+
+    @Bean
+    public MeterBinder projectStreamMetrics(ProjectStreamService projectStreamService) {
+        return registry -> {
+            Gauge.builder("sse.subscribers", projectStreamService, ProjectStreamService::subscriberCount)
+                    .description("Open project board streams")
+                    .register(registry);
+            Gauge.builder("sse.projects", projectStreamService, ProjectStreamService::watchedProjectCount)
+                    .description("Projects with at least one open stream")
+                    .register(registry);
+        };
+    }
+
+    // Only present with app.datasource.concurrency-limit.enabled (the "vt" profile)
+    @Bean
+    public MeterBinder dataSourceConcurrencyMetrics(DataSource dataSource) {
+        return registry -> {
+            if (!(dataSource instanceof ConcurrencyLimitedDataSource limited)) {
+                return;
+            }
+            Gauge.builder("datasource.concurrency.limit", limited, ConcurrencyLimitedDataSource::getMaxConcurrency)
+                    .register(registry);
+            Gauge.builder("datasource.concurrency.available", limited,
+                            ConcurrencyLimitedDataSource::getAvailablePermits)
+                    .register(registry);
+            Gauge.builder("datasource.concurrency.waiting", limited, ConcurrencyLimitedDataSource::getQueueLength)
+                    .description("Requests waiting for a connection permit")
+                    .register(registry);
+        };
+    }
+
+    private static ToDoubleFunction<DashboardCache> regionStat(String region,
+            ToDoubleFunction<CacheRegionStats> stat) {
+        return cache -> cache.stats().stream()
+                .filter(stats -> stats.getRegion().equals(region))
+                .mapToDouble(stat)
+                .findFirst()
+                .orElse(0);
+    }
+}
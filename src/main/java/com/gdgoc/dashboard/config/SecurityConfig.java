@@ -2,7 +2,10 @@ package com.gdgoc.dashboard.config;
 
 import com.gdgoc.dashboard.security.CurrentUserArgumentResolver;
 import com.gdgoc.dashboard.security.FirebaseTokenFilter;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -16,10 +19,13 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.util.StringUtils;
 import org.springframework.web.filter.CorsFilter;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.List;
 
@@ -32,6 +38,9 @@ public class SecurityConfig implements WebMvcConfigurer {
     private final FirebaseTokenFilter firebaseTokenFilter;
     private final CurrentUserArgumentResolver currentUserArgumentResolver;
 
+    @Value("${app.metrics.scrape-token:}")
+    private String metricsScrapeToken;
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -60,6 +69,9 @@ public class SecurityConfig implements WebMvcConfigurer {
                         // Allow all CORS preflight requests
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
+                        // Completion of async requests (SSE streams); the request itself was authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Public endpoints
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/health").permitAll()
@@ -72,14 +84,19 @@ public class SecurityConfig implements WebMvcConfigurer {
                         // H2 Console (dev profile)
                         .requestMatchers("/h2-console/**").permitAll()
 
-                        // Frontend & static: mọi path không bắt đầu bằng /api đều cho phép (tránh 403 khi vào / hoặc /gdgoc_dashboard/)
+                        // Frontend & static: mọi path ngoài /api/** đều cho phép (tránh 403 khi vào / hoặc /gdgoc_dashboard/);
+                        // so khớp cả dấu "/" để file như api.js không bị coi là API
                         .requestMatchers(request -> {
                             String path = request.getServletPath();
                             if (path == null) path = "";
-                            return !path.startsWith("/api");
+                            return !path.equals("/api") && !path.startsWith("/api/");
                         }).permitAll()
 
+                        // Prometheus scrape with the static token (app.metrics.scrape-token), if one is set
+                        .requestMatchers(this::isMetricsScrape).permitAll()
+
                         // Admin-only endpoints
+                        .requestMatchers("/api/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/api/dashboard/admin", "/api/dashboard/admin/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PATCH, "/api/users/*/role").hasRole("ADMIN")
 
@@ -90,6 +107,7 @@ public class SecurityConfig implements WebMvcConfigurer {
                         .requestMatchers("/api/users", "/api/users/**").authenticated()
                         .requestMatchers("/api/projects", "/api/projects/**").authenticated()
                         .requestMatchers("/api/tasks", "/api/tasks/**").authenticated()
+                        .requestMatchers("/api/stream/**").authenticated()
 
                         // All authenticated users
                         .anyRequest().authenticated())
@@ -101,6 +119,16 @@ public class SecurityConfig implements WebMvcConfigurer {
         return http.build();
     }
 
+    private boolean isMetricsScrape(HttpServletRequest request) {
+        if (!StringUtils.hasText(metricsScrapeToken) || !"/api/actuator/prometheus".equals(request.getServletPath())) {
+            return false;
+        }
+        String authorization = request.getHeader("Authorization");
+        return authorization != null && MessageDigest.isEqual(
+                authorization.getBytes(StandardCharsets.UTF_8),
+                ("Bearer " + metricsScrapeToken).getBytes(StandardCharsets.UTF_8));
+    }
+
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(currentUserArgumentResolver);
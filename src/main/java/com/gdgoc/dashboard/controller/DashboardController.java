@@ -1,16 +1,20 @@
 package com.gdgoc.dashboard.controller;
 
+import com.gdgoc.dashboard.dto.response.CacheRegionStats;
 import com.gdgoc.dashboard.dto.response.DashboardAdminResponse;
 import com.gdgoc.dashboard.dto.response.DashboardLeaderResponse;
 import com.gdgoc.dashboard.dto.response.DashboardMemberResponse;
+import com.gdgoc.dashboard.dto.response.MeterStats;
 import com.gdgoc.dashboard.entity.User;
 import com.gdgoc.dashboard.security.CurrentUser;
 import com.gdgoc.dashboard.service.DashboardService;
+import com.gdgoc.dashboard.service.MetricsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -19,6 +23,7 @@ import java.util.UUID;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final MetricsService metricsService;
 
     @GetMapping("/admin")
     @PreAuthorize("hasRole('ADMIN')")
@@ -26,6 +31,27 @@ public class DashboardController {
         return ResponseEntity.ok(dashboardService.getAdminDashboard());
     }
 
+    /**
+     * GET /api/dashboard/admin/cache-stats
+     * Size, hit/miss and invalidation counters of each dashboard cache region.
+     */
+    @GetMapping("/admin/cache-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<CacheRegionStats>> getCacheStats() {
+        return ResponseEntity.ok(dashboardService.getCacheStats());
+    }
+
+    /**
+     * GET /api/dashboard/admin/metrics
+     * Latency (count, mean, max, p50/p90/p99) per endpoint, repository method and dashboard
+     * section, plus connection pool, SQL statement, cache and stream meters.
+     */
+    @GetMapping("/admin/metrics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<MeterStats>> getMetrics() {
+        return ResponseEntity.ok(metricsService.getMeterStats());
+    }
+
     @GetMapping("/leader/{projectId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'LEADER')")
     public ResponseEntity<DashboardLeaderResponse> getLeaderDashboard(@PathVariable UUID projectId,
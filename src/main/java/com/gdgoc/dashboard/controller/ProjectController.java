@@ -2,8 +2,10 @@ package com.gdgoc.dashboard.controller;
 
 import com.gdgoc.dashboard.dto.request.CreateProjectRequest;
 import com.gdgoc.dashboard.dto.request.UpdateProjectRequest;
+import com.gdgoc.dashboard.dto.response.CursorPage;
 import com.gdgoc.dashboard.dto.response.ProjectResponse;
 import com.gdgoc.dashboard.entity.User;
+import com.gdgoc.dashboard.enums.ProjectStatus;
 import com.gdgoc.dashboard.security.CurrentUser;
 import com.gdgoc.dashboard.service.ProjectService;
 import jakarta.validation.Valid;
@@ -12,7 +14,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -24,8 +25,11 @@ public class ProjectController {
     private final ProjectService projectService;
 
     @GetMapping
-    public ResponseEntity<List<ProjectResponse>> getProjects(@CurrentUser User currentUser) {
-        return ResponseEntity.ok(projectService.getProjectsByUser(currentUser));
+    public ResponseEntity<CursorPage<ProjectResponse>> getProjects(@CurrentUser User currentUser,
+            @RequestParam(required = false) ProjectStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(projectService.getProjectsByUser(currentUser, status, cursor, limit));
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,32 @@
+package com.gdgoc.dashboard.controller;
+
+import com.gdgoc.dashboard.entity.User;
+import com.gdgoc.dashboard.security.CurrentUser;
+import com.gdgoc.dashboard.service.ProjectStreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/stream")
+@RequiredArgsConstructor
+public class StreamController {
+
+    private final ProjectStreamService projectStreamService;
+
+    /**
+     * GET /api/stream/projects/{projectId}
+     * Server-Sent Events for the project board: "counters" on connect and after task changes,
+     * "task" deltas, "member-added"/"member-removed", "project-updated" and "project-deleted".
+     * Open to the project's members, its leader and admins.
+     */
+    @GetMapping("/projects/{projectId}")
+    public SseEmitter streamProject(@PathVariable UUID projectId, @CurrentUser User currentUser) {
+        return projectStreamService.subscribe(projectId, currentUser);
+    }
+}
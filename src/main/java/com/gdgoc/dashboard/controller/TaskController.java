@@ -1,7 +1,14 @@
 package com.gdgoc.dashboard.controller;
 
+import com.gdgoc.dashboard.dto.request.BulkCreateTasksRequest;
+import com.gdgoc.dashboard.dto.request.BulkDeleteTasksRequest;
+import com.gdgoc.dashboard.dto.request.BulkTaskAssigneesRequest;
+import com.gdgoc.dashboard.dto.request.BulkTaskStatusRequest;
 import com.gdgoc.dashboard.dto.request.CreateTaskRequest;
+import com.gdgoc.dashboard.dto.request.TaskFilter;
 import com.gdgoc.dashboard.dto.request.UpdateTaskRequest;
+import com.gdgoc.dashboard.dto.response.BulkTaskResponse;
+import com.gdgoc.dashboard.dto.response.CursorPage;
 import com.gdgoc.dashboard.dto.response.TaskResponse;
 import com.gdgoc.dashboard.entity.User;
 import com.gdgoc.dashboard.enums.TaskStatus;
@@ -13,7 +20,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -24,9 +30,18 @@ public class TaskController {
 
     private final TaskService taskService;
 
+    /**
+     * GET /api/tasks/project/{projectId}?status=&priority=&deadlineFrom=&deadlineTo=&assigneeId=&cursor=&limit=&order=
+     * Returns one page ordered by creation time (order=desc for newest first); follow nextCursor
+     * with the same order for the rest.
+     */
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<List<TaskResponse>> getProjectTasks(@PathVariable UUID projectId) {
-        return ResponseEntity.ok(taskService.getTasksByProject(projectId));
+    public ResponseEntity<CursorPage<TaskResponse>> getProjectTasks(@PathVariable UUID projectId,
+            TaskFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String order) {
+        return ResponseEntity.ok(taskService.getTasksByProject(projectId, filter, cursor, limit, order));
     }
 
     @PostMapping("/project/{projectId}")
@@ -37,6 +52,36 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(task);
     }
 
+    /**
+     * POST /api/tasks/project/{projectId}/bulk — create up to app.tasks.bulk.max-items tasks in one transaction.
+     * Each item is reported in the response with the status the single-item endpoint would return.
+     */
+    @PostMapping("/project/{projectId}/bulk")
+    public ResponseEntity<BulkTaskResponse> createTasks(@PathVariable UUID projectId,
+            @RequestBody BulkCreateTasksRequest request,
+            @CurrentUser User currentUser) {
+        return ResponseEntity.ok(taskService.createTasks(projectId, request.getTasks(), currentUser));
+    }
+
+    @PutMapping("/bulk/status")
+    public ResponseEntity<BulkTaskResponse> updateTaskStatuses(@RequestBody BulkTaskStatusRequest request,
+            @CurrentUser User currentUser) {
+        return ResponseEntity.ok(taskService.updateTaskStatuses(request.getItems(), currentUser));
+    }
+
+    @PutMapping("/bulk/assignees")
+    public ResponseEntity<BulkTaskResponse> reassignTasks(@RequestBody BulkTaskAssigneesRequest request,
+            @CurrentUser User currentUser) {
+        return ResponseEntity.ok(taskService.reassignTasks(request.getItems(), currentUser));
+    }
+
+    // POST rather than DELETE: the ids travel in the body
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<BulkTaskResponse> deleteTasks(@RequestBody BulkDeleteTasksRequest request,
+            @CurrentUser User currentUser) {
+        return ResponseEntity.ok(taskService.deleteTasks(request.getTaskIds(), currentUser));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<TaskResponse> getTask(@PathVariable UUID id) {
         return ResponseEntity.ok(taskService.getTaskById(id));
@@ -70,7 +115,11 @@ public class TaskController {
     }
 
     @GetMapping("/my")
-    public ResponseEntity<List<TaskResponse>> getMyTasks(@CurrentUser User currentUser) {
-        return ResponseEntity.ok(taskService.getTasksByUser(currentUser.getId()));
+    public ResponseEntity<CursorPage<TaskResponse>> getMyTasks(@CurrentUser User currentUser,
+            TaskFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String order) {
+        return ResponseEntity.ok(taskService.getTasksByUser(currentUser.getId(), filter, cursor, limit, order));
     }
 }
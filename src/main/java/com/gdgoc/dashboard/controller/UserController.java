@@ -1,5 +1,6 @@
 package com.gdgoc.dashboard.controller;
 
+import com.gdgoc.dashboard.dto.response.CursorPage;
 import com.gdgoc.dashboard.dto.response.UserResponse;
 import com.gdgoc.dashboard.entity.User;
 import com.gdgoc.dashboard.enums.Role;
@@ -10,7 +11,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -22,8 +22,10 @@ public class UserController {
     private final UserService userService;
 
     @GetMapping
-    public ResponseEntity<List<UserResponse>> getAllUsers() {
-        return ResponseEntity.ok(userService.getAllUsers());
+    public ResponseEntity<CursorPage<UserResponse>> getAllUsers(@RequestParam(required = false) Role role,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(userService.getAllUsers(role, cursor, limit));
     }
 
     @GetMapping("/{id}")
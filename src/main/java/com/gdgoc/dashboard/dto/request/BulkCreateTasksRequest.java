@@ -0,0 +1,14 @@
+package com.gdgoc.dashboard.dto.request;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Tasks to create in one project. Items are validated one by one and reported in the response.
+ */
+@Data
+public class BulkCreateTasksRequest {
+
+    private List<CreateTaskRequest> tasks;
+}
@@ -0,0 +1,12 @@
+package com.gdgoc.dashboard.dto.request;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class BulkDeleteTasksRequest {
+
+    private List<UUID> taskIds;
+}
@@ -0,0 +1,23 @@
+package com.gdgoc.dashboard.dto.request;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Replaces the assignees of each task; an empty list unassigns it.
+ */
+@Data
+public class BulkTaskAssigneesRequest {
+
+    private List<Item> items;
+
+    @Data
+    public static class Item {
+
+        private UUID taskId;
+
+        private List<UUID> assigneeIds;
+    }
+}
@@ -0,0 +1,21 @@
+package com.gdgoc.dashboard.dto.request;
+
+import com.gdgoc.dashboard.enums.TaskStatus;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class BulkTaskStatusRequest {
+
+    private List<Item> items;
+
+    @Data
+    public static class Item {
+
+        private UUID taskId;
+
+        private TaskStatus status;
+    }
+}
@@ -0,0 +1,29 @@
+package com.gdgoc.dashboard.dto.request;
+
+import com.gdgoc.dashboard.enums.TaskPriority;
+import com.gdgoc.dashboard.enums.TaskStatus;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Optional query-string filters for task listings. Null fields are ignored.
+ */
+@Data
+public class TaskFilter {
+
+    private TaskStatus status;
+
+    private TaskPriority priority;
+
+    // Inclusive deadline range
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate deadlineFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate deadlineTo;
+
+    private UUID assigneeId;
+}
@@ -0,0 +1,21 @@
+package com.gdgoc.dashboard.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one item of a bulk request, by its position in the request.
+ * {@code status} is the HTTP status the single-item endpoint would have answered.
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResult {
+    private int index;
+    private UUID taskId;
+    private int status;
+    private String error;
+}
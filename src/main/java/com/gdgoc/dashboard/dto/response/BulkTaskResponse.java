@@ -0,0 +1,25 @@
+package com.gdgoc.dashboard.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BulkTaskResponse {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<BulkItemResult> results;
+
+    public static BulkTaskResponse of(List<BulkItemResult> results) {
+        int succeeded = (int) results.stream().filter(result -> result.getError() == null).count();
+        return BulkTaskResponse.builder()
+                .total(results.size())
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.gdgoc.dashboard.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CacheRegionStats {
+    private String region;
+    private int size;
+    private int maxSize;
+    private long hits;
+    private long misses;
+    private double hitRate;
+    // Entries dropped by the LRU bound
+    private long evictions;
+    // Entries dropped because the underlying data changed
+    private long invalidations;
+}
@@ -0,0 +1,45 @@
+package com.gdgoc.dashboard.dto.response;
+
+import com.gdgoc.dashboard.dto.request.PageCursor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is null on the last page;
+ * otherwise pass it back as {@code ?cursor=} to get the next one.
+ */
+@Data
+@Builder
+public class CursorPage<T> {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 500;
+
+    private List<T> items;
+    private String nextCursor;
+
+    public static int clampLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    /**
+     * Build a page from rows fetched with {@code limit + 1}: the extra row only tells
+     * whether another page exists and is not returned.
+     */
+    public static <E, T> CursorPage<T> fromRows(List<E> rows, int limit,
+            Function<E, PageCursor> cursorOf,
+            Function<List<E>, List<T>> mapper) {
+        boolean hasMore = rows.size() > limit;
+        List<E> pageRows = hasMore ? rows.subList(0, limit) : rows;
+        return CursorPage.<T>builder()
+                .items(mapper.apply(pageRows))
+                .nextCursor(hasMore ? cursorOf.apply(pageRows.get(limit - 1)).encode() : null)
+                .build();
+    }
+}
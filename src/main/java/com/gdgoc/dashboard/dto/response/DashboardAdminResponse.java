@@ -1,5 +1,6 @@
 package com.gdgoc.dashboard.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Data;
 
@@ -18,4 +19,7 @@ public class DashboardAdminResponse {
     private long completedTasks;
     private long overdueTasks;
     private List<ContributorStats> topContributors;
+    // Sections that failed or timed out; their fields are left at zero / empty
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<String> unavailableSections;
 }
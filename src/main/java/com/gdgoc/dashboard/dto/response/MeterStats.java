@@ -0,0 +1,26 @@
+package com.gdgoc.dashboard.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MeterStats {
+    private String name;
+    private Map<String, String> tags;
+    // Timers and counters
+    private Long count;
+    // Timers, in milliseconds; percentiles over the last couple of minutes
+    private Double totalMs;
+    private Double meanMs;
+    private Double maxMs;
+    private Double p50Ms;
+    private Double p90Ms;
+    private Double p99Ms;
+    // Gauges
+    private Double value;
+}
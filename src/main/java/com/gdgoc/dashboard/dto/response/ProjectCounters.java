@@ -0,0 +1,20 @@
+package com.gdgoc.dashboard.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+/**
+ * Task counters of one project, as on the leader dashboard, pushed on the project stream.
+ */
+@Data
+@Builder
+public class ProjectCounters {
+    private UUID projectId;
+    private long totalTasks;
+    private long todoTasks;
+    private long inProgressTasks;
+    private long completedTasks;
+    private long overdueTasks;
+}
@@ -0,0 +1,28 @@
+package com.gdgoc.dashboard.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.gdgoc.dashboard.enums.TaskPriority;
+import com.gdgoc.dashboard.enums.TaskStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Compact task change pushed on the project stream. {@code type} is the event name
+ * (TaskCreated, TaskStatusChanged, ...); a TaskDeleted delta only carries the id.
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskDelta {
+    private String type;
+    private UUID taskId;
+    private String title;
+    private TaskStatus status;
+    private TaskPriority priority;
+    private LocalDate deadline;
+    private Set<UUID> assigneeIds;
+}
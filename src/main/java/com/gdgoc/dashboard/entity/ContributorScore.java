@@ -0,0 +1,48 @@
+package com.gdgoc.dashboard.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Per-user task aggregate backing the admin leaderboard.
+ * Maintained incrementally by ContributorScoreService on every task mutation,
+ * so the top contributors can be read from the score index instead of being
+ * recomputed per user.
+ */
+@Entity
+@Table(name = "contributor_scores", indexes = @Index(name = "ix_contributor_scores_score", columnList = "contribution_score"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContributorScore {
+
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", insertable = false, updatable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private long totalTasks;
+
+    @Column(nullable = false)
+    private long completedTasks;
+
+    // Open tasks whose deadline is before the shared "as of" date (ContributorScoreState)
+    @Column(nullable = false)
+    private long overdueTasks;
+
+    @Column(name = "contribution_score", nullable = false)
+    private int contributionScore;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,29 @@
+package com.gdgoc.dashboard.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * The single row holding the date contributor_scores' overdue counts are relative to.
+ * Shared by every instance: writers read it under a share lock, and the daily rollover
+ * advances it with a conditional update, so each day is rolled over exactly once.
+ */
+@Entity
+@Table(name = "contributor_score_state")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContributorScoreState {
+
+    public static final short ID = 1;
+
+    @Id
+    private short id;
+
+    @Column(nullable = false)
+    private LocalDate asOf;
+}
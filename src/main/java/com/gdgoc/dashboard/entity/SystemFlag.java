@@ -0,0 +1,31 @@
+package com.gdgoc.dashboard.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A one-time, application-wide fact such as "the first admin has been created".
+ * A flag is claimed by inserting its row; the primary key makes the claim race-safe
+ * across requests and instances.
+ */
+@Entity
+@Table(name = "system_flags")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SystemFlag {
+
+    // The first user to log in becomes ADMIN
+    public static final String ADMIN_BOOTSTRAPPED = "ADMIN_BOOTSTRAPPED";
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime setAt;
+}
@@ -0,0 +1,8 @@
+package com.gdgoc.dashboard.event;
+
+/**
+ * A committed change to the domain, published through {@link DomainEventBus}.
+ * The hierarchy is sealed so subscribers can switch over it exhaustively.
+ */
+public sealed interface DomainEvent permits TaskEvent, ProjectEvent, UserEvent {
+}
@@ -0,0 +1,203 @@
+package com.gdgoc.dashboard.event;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process pipeline for {@link DomainEvent}s.
+ *
+ * Events published inside a transaction are held until it commits and dropped if it rolls
+ * back; outside a transaction they are dispatched immediately. Each asynchronous subscriber
+ * has its own bounded queue, drained in batches on a small shared executor, so a slow
+ * subscriber only delays itself. When a queue stays full for longer than the offer timeout
+ * the publishing thread delivers to that subscriber itself, which slows producers down to
+ * the consumer's pace instead of dropping events. With virtual threads enabled the drain tasks
+ * run on virtual threads instead of the fixed pool.
+ */
+@Component
+@Slf4j
+public class DomainEventBus {
+
+    private final ExecutorService executor;
+    private final List<Channel> channels = new ArrayList<>();
+    private final List<DomainEventSubscriber> inline = new ArrayList<>();
+    private final int maxBatch;
+    private final Duration offerTimeout;
+
+    public DomainEventBus(
+            ObjectProvider<DomainEventSubscriber> subscribers,
+            @Value("${app.events.threads:2}") int threads,
+            @Value("${app.events.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.events.max-batch:500}") int maxBatch,
+            @Value("${app.events.offer-timeout:500ms}") Duration offerTimeout,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.maxBatch = maxBatch;
+        this.offerTimeout = offerTimeout;
+        if (virtualThreads) {
+            // One drain task per subscriber at a time already bounds concurrency
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("domain-events-", 1).factory());
+        } else {
+            AtomicInteger threadCount = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "domain-events-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        subscribers.orderedStream().forEach(subscriber -> {
+            if (subscriber.async()) {
+                channels.add(new Channel(subscriber, queueCapacity));
+            } else {
+                inline.add(subscriber);
+            }
+        });
+    }
+
+    public void publish(DomainEvent event) {
+        publishAll(List.of(event));
+    }
+
+    public void publishAll(List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(List.copyOf(events));
+            return;
+        }
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new Pending();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.events.addAll(events);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void dispatch(List<DomainEvent> events) {
+        for (DomainEventSubscriber subscriber : inline) {
+            deliver(subscriber, events);
+        }
+        for (Channel channel : channels) {
+            channel.enqueue(events);
+        }
+    }
+
+    private static void deliver(DomainEventSubscriber subscriber, List<DomainEvent> batch) {
+        try {
+            subscriber.onEvents(batch);
+        } catch (RuntimeException e) {
+            log.error("Domain event subscriber {} failed on {} events", subscriber.getClass().getSimpleName(),
+                    batch.size(), e);
+        }
+    }
+
+    /**
+     * Events of the current transaction, dispatched after commit.
+     */
+    private final class Pending implements TransactionSynchronization {
+
+        private final List<DomainEvent> events = new ArrayList<>();
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(DomainEventBus.this);
+            if (status == STATUS_COMMITTED) {
+                dispatch(List.copyOf(events));
+            }
+        }
+    }
+
+    /**
+     * Queue of one asynchronous subscriber. At most one drain task per channel is scheduled at
+     * a time, which keeps delivery in order.
+     */
+    private final class Channel {
+
+        private final DomainEventSubscriber subscriber;
+        private final BlockingQueue<DomainEvent> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Channel(DomainEventSubscriber subscriber, int capacity) {
+            this.subscriber = subscriber;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        void enqueue(List<DomainEvent> events) {
+            for (int i = 0; i < events.size(); i++) {
+                if (!offer(events.get(i))) {
+                    // Backpressure: still full after the timeout, so hand over what is queued
+                    // and the rest of this dispatch on the caller's thread
+                    synchronized (this) {
+                        List<DomainEvent> overflow = new ArrayList<>(queue.size() + events.size() - i);
+                        queue.drainTo(overflow);
+                        overflow.addAll(events.subList(i, events.size()));
+                        deliver(subscriber, overflow);
+                    }
+                    return;
+                }
+            }
+            schedule();
+        }
+
+        private boolean offer(DomainEvent event) {
+            try {
+                return queue.offer(event, offerTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // Shutting down
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            // Taking and delivering under one lock keeps order with the overflow path
+            synchronized (this) {
+                List<DomainEvent> batch = new ArrayList<>(Math.min(maxBatch, queue.size()));
+                queue.drainTo(batch, maxBatch);
+                if (!batch.isEmpty()) {
+                    deliver(subscriber, batch);
+                }
+            }
+            scheduled.set(false);
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
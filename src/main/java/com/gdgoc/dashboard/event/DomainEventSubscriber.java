@@ -0,0 +1,20 @@
+package com.gdgoc.dashboard.event;
+
+import java.util.List;
+
+/**
+ * Receives committed domain events from {@link DomainEventBus}. Any Spring bean implementing
+ * this interface is subscribed.
+ *
+ * Asynchronous subscribers get events in batches, in publication order, on the bus executor;
+ * a batch may span several transactions. Synchronous subscribers are called on the committing
+ * thread with the events of that one transaction, before the service method returns.
+ */
+public interface DomainEventSubscriber {
+
+    void onEvents(List<DomainEvent> batch);
+
+    default boolean async() {
+        return true;
+    }
+}
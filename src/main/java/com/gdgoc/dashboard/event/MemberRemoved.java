@@ -0,0 +1,6 @@
+package com.gdgoc.dashboard.event;
+
+import java.util.UUID;
+
+public record MemberRemoved(UUID projectId, UUID userId) implements ProjectEvent {
+}
@@ -0,0 +1,13 @@
+package com.gdgoc.dashboard.event;
+
+import com.gdgoc.dashboard.service.ProjectSnapshot;
+
+import java.util.UUID;
+
+public record ProjectCreated(ProjectSnapshot after) implements ProjectEvent {
+
+    @Override
+    public UUID projectId() {
+        return after.projectId();
+    }
+}
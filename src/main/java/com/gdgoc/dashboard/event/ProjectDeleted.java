@@ -0,0 +1,17 @@
+package com.gdgoc.dashboard.event;
+
+import com.gdgoc.dashboard.service.ProjectSnapshot;
+
+import java.util.UUID;
+
+/**
+ * The project was deleted, together with its members and tasks (no TaskDeleted is published
+ * for them).
+ */
+public record ProjectDeleted(ProjectSnapshot before) implements ProjectEvent {
+
+    @Override
+    public UUID projectId() {
+        return before.projectId();
+    }
+}
@@ -0,0 +1,12 @@
+package com.gdgoc.dashboard.event;
+
+import java.util.UUID;
+
+/**
+ * A change to a project or its membership.
+ */
+public sealed interface ProjectEvent extends DomainEvent
+        permits ProjectCreated, ProjectUpdated, ProjectDeleted, MemberAdded, MemberRemoved {
+
+    UUID projectId();
+}
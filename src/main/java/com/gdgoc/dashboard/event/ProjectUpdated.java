@@ -0,0 +1,13 @@
+package com.gdgoc.dashboard.event;
+
+import com.gdgoc.dashboard.service.ProjectSnapshot;
+
+import java.util.UUID;
+
+public record ProjectUpdated(ProjectSnapshot before, ProjectSnapshot after) implements ProjectEvent {
+
+    @Override
+    public UUID projectId() {
+        return after.projectId();
+    }
+}
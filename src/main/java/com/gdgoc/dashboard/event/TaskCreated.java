@@ -0,0 +1,11 @@
+package com.gdgoc.dashboard.event;
+
+import com.gdgoc.dashboard.service.TaskSnapshot;
+
+public record TaskCreated(TaskSnapshot after) implements TaskEvent {
+
+    @Override
+    public TaskSnapshot before() {
+        return null;
+    }
+}
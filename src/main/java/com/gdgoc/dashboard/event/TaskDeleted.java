@@ -0,0 +1,11 @@
+package com.gdgoc.dashboard.event;
+
+import com.gdgoc.dashboard.service.TaskSnapshot;
+
+public record TaskDeleted(TaskSnapshot before) implements TaskEvent {
+
+    @Override
+    public TaskSnapshot after() {
+        return null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.gdgoc.dashboard.event;
+
+import com.gdgoc.dashboard.service.TaskSnapshot;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A task change with the task as it was before ({@code null} when created) and after
+ * ({@code null} when deleted).
+ */
+public sealed interface TaskEvent extends DomainEvent
+        permits TaskCreated, TaskUpdated, TaskStatusChanged, TaskReassigned, TaskDeleted {
+
+    TaskSnapshot before();
+
+    TaskSnapshot after();
+
+    default UUID taskId() {
+        return after() != null ? after().taskId() : before().taskId();
+    }
+
+    default UUID projectId() {
+        return after() != null ? after().projectId() : before().projectId();
+    }
+
+    /** Users assigned before or after the change. */
+    default Set<UUID> affectedUserIds() {
+        Set<UUID> userIds = new HashSet<>();
+        if (before() != null) {
+            userIds.addAll(before().assigneeIds());
+        }
+        if (after() != null) {
+            userIds.addAll(after().assigneeIds());
+        }
+        return userIds;
+    }
+
+    /**
+     * Events describing an update: one per aspect that changed (status, assignees, other fields).
+     * An update that changed nothing still yields a TaskUpdated.
+     */
+    static List<TaskEvent> between(TaskSnapshot before, TaskSnapshot after) {
+        List<TaskEvent> events = new ArrayList<>(2);
+        if (before.status() != after.status()) {
+            events.add(new TaskStatusChanged(before, after));
+        }
+        if (!before.assigneeIds().equals(after.assigneeIds())) {
+            events.add(new TaskReassigned(before, after));
+        }
+        boolean otherFieldsChanged = !Objects.equals(before.title(), after.title())
+                || before.priority() != after.priority()
+                || !Objects.equals(before.deadline(), after.deadline());
+        if (events.isEmpty() || otherFieldsChanged) {
+            events.add(new TaskUpdated(before, after));
+        }
+        return events;
+    }
+}
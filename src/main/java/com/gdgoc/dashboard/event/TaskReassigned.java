@@ -0,0 +1,9 @@
+package com.gdgoc.dashboard.event;
+
+import com.gdgoc.dashboard.service.TaskSnapshot;
+
+/**
+ * The set of assignees changed.
+ */
+public record TaskReassigned(TaskSnapshot before, TaskSnapshot after) implements TaskEvent {
+}
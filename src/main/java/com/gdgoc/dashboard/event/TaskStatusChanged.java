@@ -0,0 +1,9 @@
+package com.gdgoc.dashboard.event;
+
+import com.gdgoc.dashboard.service.TaskSnapshot;
+
+/**
+ * The task moved to another status.
+ */
+public record TaskStatusChanged(TaskSnapshot before, TaskSnapshot after) implements TaskEvent {
+}
@@ -0,0 +1,9 @@
+package com.gdgoc.dashboard.event;
+
+import com.gdgoc.dashboard.service.TaskSnapshot;
+
+/**
+ * Task fields other than status and assignees changed (title, description, priority, deadline).
+ */
+public record TaskUpdated(TaskSnapshot before, TaskSnapshot after) implements TaskEvent {
+}
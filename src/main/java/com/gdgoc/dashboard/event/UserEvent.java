@@ -0,0 +1,11 @@
+package com.gdgoc.dashboard.event;
+
+import java.util.UUID;
+
+/**
+ * A user registered, changed what dashboards show about them, or got a new role.
+ */
+public sealed interface UserEvent extends DomainEvent permits UserRegistered, UserProfileChanged, UserRoleChanged {
+
+    UUID userId();
+}
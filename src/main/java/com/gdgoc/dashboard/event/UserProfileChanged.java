@@ -0,0 +1,9 @@
+package com.gdgoc.dashboard.event;
+
+import java.util.UUID;
+
+/**
+ * The user's display name changed.
+ */
+public record UserProfileChanged(UUID userId) implements UserEvent {
+}
@@ -0,0 +1,11 @@
+package com.gdgoc.dashboard.event;
+
+import com.gdgoc.dashboard.enums.Role;
+
+import java.util.UUID;
+
+/**
+ * An admin changed the user's role.
+ */
+public record UserRoleChanged(UUID userId, Role before, Role after) implements UserEvent {
+}
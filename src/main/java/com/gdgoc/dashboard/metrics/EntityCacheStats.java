@@ -0,0 +1,55 @@
+package com.gdgoc.dashboard.metrics;
+
+import com.gdgoc.dashboard.config.EntityCacheConfig;
+import com.gdgoc.dashboard.dto.response.CacheRegionStats;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.stereotype.Component;
+
+import javax.cache.CacheManager;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hit ratios of the Hibernate second-level cache regions (see {@link EntityCacheConfig}),
+ * reported as {@code hibernate.<region>} next to the dashboard cache regions.
+ */
+@Component
+public class EntityCacheStats {
+
+    private final Map<String, Cache<?, ?>> regions = new LinkedHashMap<>();
+
+    public EntityCacheStats(CacheManager entityCacheManager) {
+        List<String> names = new ArrayList<>(EntityCacheConfig.ENTITY_REGIONS);
+        names.add(EntityCacheConfig.QUERY_RESULTS_REGION);
+        for (String name : names) {
+            regions.put(name, entityCacheManager.getCache(name).unwrap(Cache.class));
+        }
+    }
+
+    /**
+     * The underlying Caffeine caches by region name, for the meter registry.
+     */
+    public Map<String, Cache<?, ?>> regions() {
+        return regions;
+    }
+
+    public List<CacheRegionStats> stats() {
+        List<CacheRegionStats> stats = new ArrayList<>();
+        regions.forEach((name, cache) -> {
+            CacheStats counters = cache.stats();
+            stats.add(CacheRegionStats.builder()
+                    .region("hibernate." + name)
+                    .size((int) cache.estimatedSize())
+                    .maxSize(cache.policy().eviction().map(eviction -> (int) eviction.getMaximum()).orElse(0))
+                    .hits(counters.hitCount())
+                    .misses(counters.missCount())
+                    .hitRate(Math.round(counters.hitRate() * 10000.0) / 100.0)
+                    .evictions(counters.evictionCount())
+                    .build());
+        });
+        return stats;
+    }
+}
@@ -0,0 +1,64 @@
+package com.gdgoc.dashboard.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares, by type ({@code jdbc.statements}).
+ * Registered as the session factory's StatementInspector; it only looks at the first
+ * keyword and never changes the SQL.
+ */
+public class StatementMetrics implements StatementInspector {
+
+    private final Counter selects;
+    private final Counter inserts;
+    private final Counter updates;
+    private final Counter deletes;
+    private final Counter others;
+
+    public StatementMetrics(MeterRegistry registry) {
+        this.selects = counter(registry, "select");
+        this.inserts = counter(registry, "insert");
+        this.updates = counter(registry, "update");
+        this.deletes = counter(registry, "delete");
+        this.others = counter(registry, "other");
+    }
+
+    @Override
+    public String inspect(String sql) {
+        counterFor(sql).increment();
+        return sql;
+    }
+
+    private Counter counterFor(String sql) {
+        int start = 0;
+        while (start < sql.length() && (Character.isWhitespace(sql.charAt(start)) || sql.charAt(start) == '(')) {
+            start++;
+        }
+        if (startsWith(sql, start, "select") || startsWith(sql, start, "with")) {
+            return selects;
+        }
+        if (startsWith(sql, start, "insert") || startsWith(sql, start, "merge")) {
+            return inserts;
+        }
+        if (startsWith(sql, start, "update")) {
+            return updates;
+        }
+        if (startsWith(sql, start, "delete")) {
+            return deletes;
+        }
+        return others;
+    }
+
+    private static boolean startsWith(String sql, int offset, String keyword) {
+        return sql.regionMatches(true, offset, keyword, 0, keyword.length());
+    }
+
+    private static Counter counter(MeterRegistry registry, String type) {
+        return Counter.builder("jdbc.statements")
+                .description("SQL statements prepared by Hibernate")
+                .tag("type", type)
+                .register(registry);
+    }
+}
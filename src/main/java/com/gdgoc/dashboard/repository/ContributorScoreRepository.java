@@ -0,0 +1,62 @@
+package com.gdgoc.dashboard.repository;
+
+import com.gdgoc.dashboard.entity.ContributorScore;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ContributorScoreRepository extends JpaRepository<ContributorScore, UUID> {
+
+    // Leaderboard: read straight from ix_contributor_scores_score
+    @Query("select s from ContributorScore s join fetch s.user "
+            + "order by s.contributionScore desc, s.completedTasks desc, s.userId")
+    List<ContributorScore> findLeaderboard(Pageable pageable);
+
+    // Score formula mirrors ContributorScoreService.calculateScore; SET expressions see pre-update values
+    @Modifying
+    @Query("update ContributorScore s set "
+            + "s.totalTasks = s.totalTasks + :totalDelta, "
+            + "s.completedTasks = s.completedTasks + :completedDelta, "
+            + "s.overdueTasks = s.overdueTasks + :overdueDelta, "
+            + "s.contributionScore = case "
+            + "  when (s.completedTasks + :completedDelta) * 10 - (s.overdueTasks + :overdueDelta) * 5 > 0 "
+            + "  then (s.completedTasks + :completedDelta) * 10 - (s.overdueTasks + :overdueDelta) * 5 "
+            + "  else 0 end, "
+            + "s.updatedAt = local datetime "
+            + "where s.userId = :userId")
+    int applyDelta(UUID userId, long totalDelta, long completedDelta, long overdueDelta);
+
+    @Modifying
+    @Query("insert into ContributorScore (userId, totalTasks, completedTasks, overdueTasks, contributionScore, updatedAt) "
+            + "select u.id, 0, 0, 0, 0, local datetime from User u "
+            + "where u.id in :userIds "
+            + "and not exists (select 1 from ContributorScore s where s.userId = u.id)")
+    int insertMissing(Collection<UUID> userIds);
+
+    // Full recompute, used at startup to (re)seed the table from the tasks
+    @Modifying
+    @Query("insert into ContributorScore (userId, totalTasks, completedTasks, overdueTasks, contributionScore, updatedAt) "
+            + "select u.id, "
+            + "  (select count(t) from Task t join t.assignees a where a.id = u.id), "
+            + "  (select count(t) from Task t join t.assignees a where a.id = u.id "
+            + "     and t.status = com.gdgoc.dashboard.enums.TaskStatus.DONE), "
+            + "  (select count(t) from Task t join t.assignees a where a.id = u.id "
+            + "     and t.deadline < :asOf and t.status <> com.gdgoc.dashboard.enums.TaskStatus.DONE), "
+            + "  0, local datetime "
+            + "from User u")
+    int insertAllFromTasks(LocalDate asOf);
+
+    @Modifying
+    @Query("update ContributorScore s set s.contributionScore = case "
+            + "  when s.completedTasks * 10 - s.overdueTasks * 5 > 0 then s.completedTasks * 10 - s.overdueTasks * 5 "
+            + "  else 0 end")
+    int recalculateAllScores();
+}
@@ -0,0 +1,46 @@
+package com.gdgoc.dashboard.repository;
+
+import com.gdgoc.dashboard.entity.ContributorScoreState;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface ContributorScoreStateRepository extends JpaRepository<ContributorScoreState, Short> {
+
+    // Writers: the share lock is held until commit, so a rollover waits for them and they wait for it.
+    // (H2 has no shared row locks and takes an exclusive one, which serializes writers in dev only.)
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select s.asOf from ContributorScoreState s where s.id = " + ContributorScoreState.ID)
+    Optional<LocalDate> findAsOfForShare();
+
+    @Query("select s.asOf from ContributorScoreState s where s.id = " + ContributorScoreState.ID)
+    Optional<LocalDate> findAsOf();
+
+    // Returns 1 for the one caller that moved the date from :from; 0 if another one already did
+    @Modifying
+    @Query("update ContributorScoreState s set s.asOf = :to "
+            + "where s.id = " + ContributorScoreState.ID + " and s.asOf = :from and s.asOf < :to")
+    int advance(LocalDate from, LocalDate to);
+
+    // Unconditional move, used by a full rebuild; waits for the writers holding the share lock
+    @Modifying
+    @Query("update ContributorScoreState s set s.asOf = :asOf where s.id = " + ContributorScoreState.ID)
+    int reset(LocalDate asOf);
+
+    // Returns 1 for the one caller that created the row; a concurrent creator waits and gets 0
+    @Modifying
+    @Query(value = "insert into contributor_score_state (id, as_of) values (" + ContributorScoreState.ID
+            + ", :asOf) on conflict do nothing", nativeQuery = true)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "contributor_score_state"))
+    int createIfMissing(LocalDate asOf);
+}
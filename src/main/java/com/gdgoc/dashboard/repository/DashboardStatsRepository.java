@@ -0,0 +1,78 @@
+package com.gdgoc.dashboard.repository;
+
+import com.gdgoc.dashboard.entity.Project;
+import com.gdgoc.dashboard.repository.projection.AdminProjectCounters;
+import com.gdgoc.dashboard.repository.projection.AdminTaskCounters;
+import com.gdgoc.dashboard.repository.projection.MemberTaskCounters;
+import com.gdgoc.dashboard.repository.projection.ProjectTaskCounters;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Read-only aggregate queries for the dashboards.
+ * Every counter is computed in the database with conditional aggregates, so no entity is loaded
+ * and the cost does not grow with heap usage as the tables grow.
+ *
+ * A project is "open" unless COMPLETED or CANCELLED, and "active" when it is open, has started
+ * and has not passed its end date.
+ */
+@org.springframework.stereotype.Repository
+public interface DashboardStatsRepository extends Repository<Project, UUID> {
+
+    @Query("select count(p) as totalProjects, "
+            + "coalesce(sum(case when p.status = com.gdgoc.dashboard.enums.ProjectStatus.COMPLETED "
+            + "    then 1 else 0 end), 0) as completedProjects, "
+            + "coalesce(sum(case when p.status not in (com.gdgoc.dashboard.enums.ProjectStatus.COMPLETED, "
+            + "        com.gdgoc.dashboard.enums.ProjectStatus.CANCELLED) "
+            + "    and p.startDate <= :today and (p.endDate is null or p.endDate >= :today) "
+            + "    then 1 else 0 end), 0) as activeProjects, "
+            + "coalesce(sum(case when p.status not in (com.gdgoc.dashboard.enums.ProjectStatus.COMPLETED, "
+            + "        com.gdgoc.dashboard.enums.ProjectStatus.CANCELLED) "
+            + "    and p.endDate < :today then 1 else 0 end), 0) as overdueProjects, "
+            + "coalesce(sum(case when p.status not in (com.gdgoc.dashboard.enums.ProjectStatus.COMPLETED, "
+            + "        com.gdgoc.dashboard.enums.ProjectStatus.CANCELLED) "
+            + "    and p.startDate > :today then 1 else 0 end), 0) as upcomingProjects "
+            + "from Project p")
+    AdminProjectCounters getAdminProjectCounters(LocalDate today);
+
+    @Query("select count(t) as totalTasks, "
+            + "coalesce(sum(case when t.status = com.gdgoc.dashboard.enums.TaskStatus.DONE "
+            + "    then 1 else 0 end), 0) as completedTasks, "
+            + "coalesce(sum(case when t.deadline < :today and t.status <> com.gdgoc.dashboard.enums.TaskStatus.DONE "
+            + "    and p.status not in (com.gdgoc.dashboard.enums.ProjectStatus.COMPLETED, "
+            + "        com.gdgoc.dashboard.enums.ProjectStatus.CANCELLED) "
+            + "    and p.startDate <= :today and (p.endDate is null or p.endDate >= :today) "
+            + "    then 1 else 0 end), 0) as overdueTasks "
+            + "from Task t join t.project p")
+    AdminTaskCounters getAdminTaskCounters(LocalDate today);
+
+    @Query("select count(t) as totalTasks, "
+            + "coalesce(sum(case when t.status = com.gdgoc.dashboard.enums.TaskStatus.TODO "
+            + "    then 1 else 0 end), 0) as todoTasks, "
+            + "coalesce(sum(case when t.status = com.gdgoc.dashboard.enums.TaskStatus.IN_PROGRESS "
+            + "    then 1 else 0 end), 0) as inProgressTasks, "
+            + "coalesce(sum(case when t.status = com.gdgoc.dashboard.enums.TaskStatus.DONE "
+            + "    then 1 else 0 end), 0) as completedTasks, "
+            + "coalesce(sum(case when t.deadline < :today and t.status <> com.gdgoc.dashboard.enums.TaskStatus.DONE "
+            + "    then 1 else 0 end), 0) as overdueTasks "
+            + "from Task t where t.project.id = :projectId")
+    ProjectTaskCounters getProjectTaskCounters(UUID projectId, LocalDate today);
+
+    @Query("select count(t) as totalTasks, "
+            + "coalesce(sum(case when t.status = com.gdgoc.dashboard.enums.TaskStatus.TODO "
+            + "    then 1 else 0 end), 0) as todoTasks, "
+            + "coalesce(sum(case when t.status = com.gdgoc.dashboard.enums.TaskStatus.IN_PROGRESS "
+            + "    then 1 else 0 end), 0) as inProgressTasks, "
+            + "coalesce(sum(case when t.status = com.gdgoc.dashboard.enums.TaskStatus.DONE "
+            + "    then 1 else 0 end), 0) as completedTasks, "
+            + "coalesce(sum(case when t.deadline < :today and t.status <> com.gdgoc.dashboard.enums.TaskStatus.DONE "
+            + "    then 1 else 0 end), 0) as overdueTasks "
+            + "from Task t join t.assignees a where a.id = :userId")
+    MemberTaskCounters getMemberTaskCounters(UUID userId, LocalDate today);
+
+    @Query("select count(u) from User u")
+    long countMembers();
+}
@@ -1,11 +1,20 @@
 package com.gdgoc.dashboard.repository;
 
 import com.gdgoc.dashboard.entity.ProjectMember;
+import com.gdgoc.dashboard.repository.projection.ProjectCount;
+import com.gdgoc.dashboard.repository.projection.ProjectMemberKey;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -13,11 +22,33 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, UU
 
     List<ProjectMember> findByProjectId(UUID projectId);
 
+    // Leader dashboard: members with their users in one query
+    @EntityGraph(attributePaths = "user")
+    List<ProjectMember> findWithUserByProjectId(UUID projectId);
+
     List<ProjectMember> findByUserId(UUID userId);
 
+    // Membership checks on project access; cached until project_members changes
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     boolean existsByProjectIdAndUserId(UUID projectId, UUID userId);
 
+    // Task assignees: which of the given users are members of the project, in one query
+    @Query("select pm.user.id from ProjectMember pm where pm.project.id = :projectId and pm.user.id in :userIds")
+    Set<UUID> findMemberIdsAmong(UUID projectId, Collection<UUID> userIds);
+
+    // Bulk operations: which of the given users belong to which of the given projects, in one query
+    @Query("select pm.project.id as projectId, pm.user.id as userId from ProjectMember pm "
+            + "where pm.project.id in :projectIds and pm.user.id in :userIds")
+    List<ProjectMemberKey> findMemberKeys(Collection<UUID> projectIds, Collection<UUID> userIds);
+
     Optional<ProjectMember> findByProjectIdAndUserId(UUID projectId, UUID userId);
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     long countByProjectId(UUID projectId);
+
+    // Project list: member counts for many projects in one grouped query
+    @Query("select pm.project.id as projectId, count(pm) as count from ProjectMember pm "
+            + "where pm.project.id in :projectIds group by pm.project.id")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<ProjectCount> countByProjectIds(Collection<UUID> projectIds);
 }
@@ -2,9 +2,15 @@ package com.gdgoc.dashboard.repository;
 
 import com.gdgoc.dashboard.entity.Project;
 import com.gdgoc.dashboard.enums.ProjectStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,4 +22,26 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
     List<Project> findByLeaderId(UUID leaderId);
 
     long countByStatus(ProjectStatus status);
+
+    // Project list: leaders fetched in the same statement, optional status filter,
+    // keyset pagination on (createdAt, id) — pass null "after" values for the first page
+    @Query("select p from Project p left join fetch p.leader "
+            + "where (:status is null or p.status = :status) "
+            + "and (:afterCreatedAt is null or p.createdAt > :afterCreatedAt "
+            + "    or (p.createdAt = :afterCreatedAt and p.id > :afterId)) "
+            + "order by p.createdAt, p.id")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<Project> findAllWithLeader(ProjectStatus status, LocalDateTime afterCreatedAt, UUID afterId, Limit limit);
+
+    // Projects a user leads or belongs to, in one statement (no duplicates: nothing is joined per member)
+    @Query("select p from Project p left join fetch p.leader l "
+            + "where (l.id = :userId "
+            + "    or exists (select 1 from ProjectMember pm where pm.project = p and pm.user.id = :userId)) "
+            + "and (:status is null or p.status = :status) "
+            + "and (:afterCreatedAt is null or p.createdAt > :afterCreatedAt "
+            + "    or (p.createdAt = :afterCreatedAt and p.id > :afterId)) "
+            + "order by p.createdAt, p.id")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<Project> findByLeaderOrMember(UUID userId, ProjectStatus status, LocalDateTime afterCreatedAt, UUID afterId,
+            Limit limit);
 }
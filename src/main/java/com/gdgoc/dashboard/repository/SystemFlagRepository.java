@@ -0,0 +1,24 @@
+package com.gdgoc.dashboard.repository;
+
+import com.gdgoc.dashboard.entity.SystemFlag;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SystemFlagRepository extends JpaRepository<SystemFlag, String> {
+
+    // Claim a flag while the users table is still empty. Returns 1 for the one caller that claimed it;
+    // a concurrent claimer waits for that transaction and gets 0. Only system_flags is declared as
+    // affected, so the statement does not clear the second-level cache.
+    @Modifying
+    @Query(value = "insert into system_flags (name, set_at) "
+            + "select :name, current_timestamp where not exists (select 1 from users) "
+            + "on conflict do nothing", nativeQuery = true)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "system_flags"))
+    int claimWhileNoUsers(String name);
+}
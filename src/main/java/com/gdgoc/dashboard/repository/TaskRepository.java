@@ -2,18 +2,33 @@ package com.gdgoc.dashboard.repository;
 
 import com.gdgoc.dashboard.entity.Task;
 import com.gdgoc.dashboard.enums.TaskStatus;
+import com.gdgoc.dashboard.repository.projection.AssigneeTaskCounts;
+import com.gdgoc.dashboard.repository.projection.ProjectCount;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task> {
 
     List<Task> findByProjectId(UUID projectId);
 
+    // Single task reads: assignees loaded in the same statement
+    @EntityGraph(attributePaths = "assignees")
+    Optional<Task> findWithAssigneesById(UUID id);
+
+    // Bulk operations: tasks with their assignees and project in one query
+    @EntityGraph(attributePaths = { "assignees", "project" })
+    List<Task> findWithAssigneesByIdIn(Collection<UUID> ids);
+
     List<Task> findByAssigneesId(UUID assigneeId);
 
     long countByAssigneesIdAndStatus(UUID assigneeId, TaskStatus status);
@@ -24,6 +39,11 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
 
     long countByProjectIdAndStatus(UUID projectId, TaskStatus status);
 
+    // Project list: task counts for many projects in one grouped query
+    @Query("select t.project.id as projectId, count(t) as count from Task t "
+            + "where t.project.id in :projectIds group by t.project.id")
+    List<ProjectCount> countByProjectIds(Collection<UUID> projectIds);
+
     List<Task> findByProjectIdAndAssigneesId(UUID projectId, UUID assigneeId);
 
     // Admin dashboard: count tasks by status (avoids N+1 findAll)
@@ -31,4 +51,19 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
 
     // Admin dashboard: count overdue tasks (avoids N+1 findAll)
     long countByDeadlineBeforeAndStatusNot(LocalDate date, TaskStatus status);
+
+    // Contributor scores: per-assignee counters for one project (used before the project is deleted)
+    @Query("select a.id as userId, count(t) as totalTasks, "
+            + "sum(case when t.status = com.gdgoc.dashboard.enums.TaskStatus.DONE then 1 else 0 end) as completedTasks, "
+            + "sum(case when t.deadline < :asOf and t.status <> com.gdgoc.dashboard.enums.TaskStatus.DONE "
+            + "    then 1 else 0 end) as overdueTasks "
+            + "from Task t join t.assignees a where t.project.id = :projectId group by a.id")
+    List<AssigneeTaskCounts> countByAssigneeInProject(UUID projectId, LocalDate asOf);
+
+    // Contributor scores: open tasks that became overdue between two "as of" dates
+    @Query("select a.id as userId, 0L as totalTasks, 0L as completedTasks, count(t) as overdueTasks "
+            + "from Task t join t.assignees a "
+            + "where t.deadline >= :from and t.deadline < :to "
+            + "and t.status <> com.gdgoc.dashboard.enums.TaskStatus.DONE group by a.id")
+    List<AssigneeTaskCounts> countNewlyOverdueByAssignee(LocalDate from, LocalDate to);
 }
@@ -1,18 +1,37 @@
 package com.gdgoc.dashboard.repository;
 
 import com.gdgoc.dashboard.entity.User;
+import com.gdgoc.dashboard.enums.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
 
+    // Login and token verification; the query cache drops the result on any change to users
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByFirebaseUid(String firebaseUid);
 
     Optional<User> findByEmail(String email);
 
     boolean existsByFirebaseUid(String firebaseUid);
+
+    // User list: optional role filter, keyset pagination on (createdAt, id)
+    @Query("select u from User u "
+            + "where (:role is null or u.role = :role) "
+            + "and (:afterCreatedAt is null or u.createdAt > :afterCreatedAt "
+            + "    or (u.createdAt = :afterCreatedAt and u.id > :afterId)) "
+            + "order by u.createdAt, u.id")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<User> findPage(Role role, LocalDateTime afterCreatedAt, UUID afterId, Limit limit);
 }
@@ -0,0 +1,17 @@
+package com.gdgoc.dashboard.repository.projection;
+
+/**
+ * Project counters for the admin dashboard, computed in one aggregate query.
+ */
+public interface AdminProjectCounters {
+
+    long getTotalProjects();
+
+    long getActiveProjects();
+
+    long getCompletedProjects();
+
+    long getOverdueProjects();
+
+    long getUpcomingProjects();
+}
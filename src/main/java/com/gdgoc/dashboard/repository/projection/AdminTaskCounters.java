@@ -0,0 +1,14 @@
+package com.gdgoc.dashboard.repository.projection;
+
+/**
+ * Task counters for the admin dashboard, computed in one aggregate query.
+ */
+public interface AdminTaskCounters {
+
+    long getTotalTasks();
+
+    long getCompletedTasks();
+
+    // Overdue tasks in active projects only
+    long getOverdueTasks();
+}
@@ -0,0 +1,17 @@
+package com.gdgoc.dashboard.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Task counters for one assignee, as returned by the grouped task queries.
+ */
+public interface AssigneeTaskCounts {
+
+    UUID getUserId();
+
+    long getTotalTasks();
+
+    long getCompletedTasks();
+
+    long getOverdueTasks();
+}
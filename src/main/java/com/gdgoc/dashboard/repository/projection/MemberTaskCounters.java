@@ -0,0 +1,18 @@
+package com.gdgoc.dashboard.repository.projection;
+
+/**
+ * Task counters for one assignee (member dashboard), computed in one aggregate query.
+ */
+public interface MemberTaskCounters {
+
+    long getTotalTasks();
+
+    long getTodoTasks();
+
+    long getInProgressTasks();
+
+    long getCompletedTasks();
+
+    // Not DONE and deadline before today
+    long getOverdueTasks();
+}
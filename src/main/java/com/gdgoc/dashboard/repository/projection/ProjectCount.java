@@ -0,0 +1,13 @@
+package com.gdgoc.dashboard.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * A count grouped by project, e.g. members or tasks per project.
+ */
+public interface ProjectCount {
+
+    UUID getProjectId();
+
+    long getCount();
+}
@@ -0,0 +1,13 @@
+package com.gdgoc.dashboard.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * A (project, user) membership pair.
+ */
+public interface ProjectMemberKey {
+
+    UUID getProjectId();
+
+    UUID getUserId();
+}
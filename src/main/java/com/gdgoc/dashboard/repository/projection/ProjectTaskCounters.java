@@ -0,0 +1,18 @@
+package com.gdgoc.dashboard.repository.projection;
+
+/**
+ * Task counters for one project (leader dashboard), computed in one aggregate query.
+ */
+public interface ProjectTaskCounters {
+
+    long getTotalTasks();
+
+    long getTodoTasks();
+
+    long getInProgressTasks();
+
+    long getCompletedTasks();
+
+    // Not DONE and deadline before today
+    long getOverdueTasks();
+}
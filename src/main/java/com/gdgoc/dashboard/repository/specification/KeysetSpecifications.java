@@ -0,0 +1,46 @@
+package com.gdgoc.dashboard.repository.specification;
+
+import com.gdgoc.dashboard.dto.request.PageCursor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Keyset pagination over (createdAt, id) for entities exposing both attributes,
+ * oldest first (ASC) or newest first (DESC).
+ */
+public final class KeysetSpecifications {
+
+    private KeysetSpecifications() {
+    }
+
+    public static Sort order(Sort.Direction direction) {
+        return Sort.by(direction, "createdAt", "id");
+    }
+
+    /**
+     * Rows following the cursor in the given direction; the cursor must come from a page
+     * read in that same direction.
+     */
+    public static <T> Specification<T> after(PageCursor cursor, Sort.Direction direction) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return null;
+            }
+            if (direction.isDescending()) {
+                return cb.or(
+                        cb.lessThan(root.<LocalDateTime>get("createdAt"), cursor.createdAt()),
+                        cb.and(
+                                cb.equal(root.get("createdAt"), cursor.createdAt()),
+                                cb.lessThan(root.<UUID>get("id"), cursor.id())));
+            }
+            return cb.or(
+                    cb.greaterThan(root.<LocalDateTime>get("createdAt"), cursor.createdAt()),
+                    cb.and(
+                            cb.equal(root.get("createdAt"), cursor.createdAt()),
+                            cb.greaterThan(root.<UUID>get("id"), cursor.id())));
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package com.gdgoc.dashboard.repository.specification;
+
+import com.gdgoc.dashboard.dto.request.TaskFilter;
+import com.gdgoc.dashboard.entity.Task;
+import com.gdgoc.dashboard.entity.User;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> inProject(UUID projectId) {
+        return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+    }
+
+    public static Specification<Task> assignedTo(UUID userId) {
+        // EXISTS instead of a join so a task is never returned twice
+        return (root, query, cb) -> {
+            if (userId == null) {
+                return null;
+            }
+            Subquery<Integer> sub = query.subquery(Integer.class);
+            Root<Task> task = sub.from(Task.class);
+            Join<Task, User> assignee = task.join("assignees");
+            sub.select(cb.literal(1))
+                    .where(cb.equal(task, root), cb.equal(assignee.get("id"), userId));
+            return cb.exists(sub);
+        };
+    }
+
+    public static Specification<Task> matching(TaskFilter filter) {
+        return (root, query, cb) -> {
+            if (filter == null) {
+                return null;
+            }
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), filter.getStatus()));
+            }
+            if (filter.getPriority() != null) {
+                predicates.add(cb.equal(root.get("priority"), filter.getPriority()));
+            }
+            if (filter.getDeadlineFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("deadline"), filter.getDeadlineFrom()));
+            }
+            if (filter.getDeadlineTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("deadline"), filter.getDeadlineTo()));
+            }
+            Predicate assignee = assignedTo(filter.getAssigneeId()).toPredicate(root, query, cb);
+            if (assignee != null) {
+                predicates.add(assignee);
+            }
+            return predicates.isEmpty() ? null : cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
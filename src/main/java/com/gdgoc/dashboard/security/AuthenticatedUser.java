@@ -0,0 +1,36 @@
+package com.gdgoc.dashboard.security;
+
+import com.gdgoc.dashboard.entity.User;
+import com.gdgoc.dashboard.enums.Role;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of the signed-in user, used as the Spring Security principal.
+ * It is shared by every request carrying the same cached token, so unlike the entity
+ * it cannot be changed or lazily initialized by one of them.
+ */
+public record AuthenticatedUser(UUID id, String firebaseUid, String email, String displayName,
+        String photoUrl, Role role, LocalDateTime createdAt) {
+
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(user.getId(), user.getFirebaseUid(), user.getEmail(), user.getDisplayName(),
+                user.getPhotoUrl(), user.getRole(), user.getCreatedAt());
+    }
+
+    /**
+     * A new detached User with these values, for services that take the current user as an entity.
+     */
+    public User toUser() {
+        return User.builder()
+                .id(id)
+                .firebaseUid(firebaseUid)
+                .email(email)
+                .displayName(displayName)
+                .photoUrl(photoUrl)
+                .role(role)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -27,8 +27,9 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
             NativeWebRequest webRequest,
             WebDataBinderFactory binderFactory) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.getPrincipal() instanceof User) {
-            return authentication.getPrincipal();
+        // A fresh detached User per argument: the principal itself is shared and immutable
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.toUser();
         }
         return null;
     }
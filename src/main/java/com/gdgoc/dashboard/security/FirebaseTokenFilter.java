@@ -2,9 +2,6 @@ package com.gdgoc.dashboard.security;
 
 import com.gdgoc.dashboard.entity.User;
 import com.gdgoc.dashboard.repository.UserRepository;
-import com.google.firebase.FirebaseApp;
-import com.google.firebase.auth.FirebaseAuth;
-import com.google.firebase.auth.FirebaseToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,6 +22,8 @@ import java.util.List;
 public class FirebaseTokenFilter extends OncePerRequestFilter {
 
     private final UserRepository userRepository;
+    private final VerifiedTokenCache tokenCache;
+    private final TokenVerifier tokenVerifier;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -32,18 +31,15 @@ public class FirebaseTokenFilter extends OncePerRequestFilter {
             FilterChain filterChain) throws ServletException, IOException {
         String token = extractToken(request);
 
-        if (token != null && !FirebaseApp.getApps().isEmpty()) {
+        if (token != null && tokenVerifier.isAvailable()) {
             try {
-                FirebaseToken decodedToken = FirebaseAuth.getInstance().verifyIdToken(token);
-                String uid = decodedToken.getUid();
-
-                User user = userRepository.findByFirebaseUid(uid).orElse(null);
+                AuthenticatedUser user = resolveUser(token);
 
                 if (user != null) {
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                             user,
                             null,
-                            List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name())));
+                            List.of(new SimpleGrantedAuthority("ROLE_" + user.role().name())));
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                 }
             } catch (Exception e) {
@@ -55,6 +51,28 @@ public class FirebaseTokenFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Verified tokens are served from the cache until they expire; otherwise the token is
+     * verified with the configured TokenVerifier and the user looked up once. The principal
+     * is an immutable snapshot, never the entity, since cached ones are shared between requests.
+     */
+    private AuthenticatedUser resolveUser(String token) {
+        VerifiedTokenCache.Entry cached = tokenCache.get(token);
+        if (cached != null) {
+            return cached.user();
+        }
+
+        VerifiedToken verified = tokenVerifier.verify(token);
+        long generation = tokenCache.generation();
+        User user = userRepository.findByFirebaseUid(verified.uid()).orElse(null);
+        if (user == null) {
+            return null;
+        }
+        AuthenticatedUser principal = AuthenticatedUser.of(user);
+        tokenCache.put(token, principal, verified.expiresAt(), generation);
+        return principal;
+    }
+
     private String extractToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
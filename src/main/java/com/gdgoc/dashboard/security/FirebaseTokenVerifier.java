@@ -0,0 +1,33 @@
+package com.gdgoc.dashboard.security;
+
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.auth.FirebaseAuthException;
+import com.google.firebase.auth.FirebaseToken;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+@Component
+@ConditionalOnProperty(name = "app.auth.verifier", havingValue = "firebase", matchIfMissing = true)
+public class FirebaseTokenVerifier implements TokenVerifier {
+
+    @Override
+    public boolean isAvailable() {
+        return !FirebaseApp.getApps().isEmpty();
+    }
+
+    @Override
+    public VerifiedToken verify(String idToken) {
+        try {
+            FirebaseToken decodedToken = FirebaseAuth.getInstance().verifyIdToken(idToken);
+            Object exp = decodedToken.getClaims().get("exp");
+            Instant expiresAt = exp instanceof Number seconds ? Instant.ofEpochSecond(seconds.longValue()) : null;
+            return new VerifiedToken(decodedToken.getUid(), decodedToken.getEmail(), decodedToken.getName(),
+                    decodedToken.getPicture(), expiresAt);
+        } catch (FirebaseAuthException e) {
+            throw new IllegalArgumentException("Invalid Firebase ID token: " + e.getMessage());
+        }
+    }
+}
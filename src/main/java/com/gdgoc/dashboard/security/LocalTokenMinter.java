@@ -0,0 +1,66 @@
+package com.gdgoc.dashboard.security;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Mints ID tokens accepted by LocalTokenVerifier. Used by load tests and benchmarks,
+ * or from the command line:
+ *
+ * <pre>
+ * java -cp target/classes:... com.gdgoc.dashboard.security.LocalTokenMinter &lt;uid&gt; &lt;email&gt; [name] [ttl-minutes]
+ * </pre>
+ *
+ * The key file defaults to the one the app uses ({@code app.auth.local.key-file}); override with
+ * {@code -Dapp.auth.local.key-file=...}.
+ */
+public class LocalTokenMinter {
+
+    public static final String ISSUER = "gdgoc-dashboard-local";
+    public static final String DEFAULT_KEY_FILE = "target/local-auth/signing-key.pem";
+
+    private final NimbusJwtEncoder encoder;
+
+    public LocalTokenMinter(LocalSigningKey signingKey) {
+        RSAKey rsaKey = new RSAKey.Builder(signingKey.getPublicKey())
+                .privateKey(signingKey.getPrivateKey())
+                .build();
+        this.encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(rsaKey)));
+    }
+
+    public String mint(String uid, String email, String name, Duration ttl) {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer(ISSUER)
+                .subject(uid)
+                .issuedAt(now)
+                .expiresAt(now.plus(ttl))
+                .claim("email", email)
+                .claim("name", name == null ? email : name)
+                .build();
+        JwsHeader header = JwsHeader.with(SignatureAlgorithm.RS256).build();
+        return encoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: LocalTokenMinter <uid> <email> [name] [ttl-minutes]");
+            System.exit(1);
+        }
+        Path keyFile = Path.of(System.getProperty("app.auth.local.key-file", DEFAULT_KEY_FILE));
+        LocalTokenMinter minter = new LocalTokenMinter(LocalSigningKey.loadOrCreate(keyFile));
+        String name = args.length > 2 ? args[2] : null;
+        long ttlMinutes = args.length > 3 ? Long.parseLong(args[3]) : 60;
+        System.out.println(minter.mint(args[0], args[1], name, Duration.ofMinutes(ttlMinutes)));
+    }
+}
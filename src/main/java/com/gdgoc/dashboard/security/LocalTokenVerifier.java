@@ -0,0 +1,53 @@
+package com.gdgoc.dashboard.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.file.Path;
+
+/**
+ * Verifies RS256 tokens minted by LocalTokenMinter with the local signing key.
+ * Enabled with {@code app.auth.verifier=local} so the full authentication path
+ * (filter, user lookup, role checks) can run without Firebase, e.g. in load tests.
+ */
+@Component
+@ConditionalOnProperty(name = "app.auth.verifier", havingValue = "local")
+@Slf4j
+public class LocalTokenVerifier implements TokenVerifier {
+
+    private final NimbusJwtDecoder decoder;
+
+    public LocalTokenVerifier(
+            @Value("${app.auth.local.key-file:" + LocalTokenMinter.DEFAULT_KEY_FILE + "}") String keyFile) {
+        LocalSigningKey signingKey = LocalSigningKey.loadOrCreate(Path.of(keyFile));
+        this.decoder = NimbusJwtDecoder.withPublicKey(signingKey.getPublicKey()).build();
+        this.decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(LocalTokenMinter.ISSUER));
+        log.warn("Local token verifier enabled (key: {}). Do not use in production.", keyFile);
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public VerifiedToken verify(String idToken) {
+        try {
+            Jwt jwt = decoder.decode(idToken);
+            if (!StringUtils.hasText(jwt.getSubject())) {
+                throw new IllegalArgumentException("Invalid local ID token: missing subject");
+            }
+            return new VerifiedToken(jwt.getSubject(), jwt.getClaimAsString("email"), jwt.getClaimAsString("name"),
+                    jwt.getClaimAsString("picture"), jwt.getExpiresAt());
+        } catch (JwtException e) {
+            throw new IllegalArgumentException("Invalid local ID token: " + e.getMessage());
+        }
+    }
+}
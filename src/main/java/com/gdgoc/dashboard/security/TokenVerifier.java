@@ -0,0 +1,20 @@
+package com.gdgoc.dashboard.security;
+
+/**
+ * Verifies bearer ID tokens. Firebase is the default implementation; setting
+ * {@code app.auth.verifier=local} switches to locally signed RSA tokens for
+ * offline runs and load tests.
+ */
+public interface TokenVerifier {
+
+    /**
+     * False when the verifier cannot work at all (e.g. Firebase not configured);
+     * requests are then treated as unauthenticated.
+     */
+    boolean isAvailable();
+
+    /**
+     * @throws IllegalArgumentException if the token is malformed, expired or not correctly signed
+     */
+    VerifiedToken verify(String idToken);
+}
@@ -0,0 +1,9 @@
+package com.gdgoc.dashboard.security;
+
+import java.time.Instant;
+
+/**
+ * Identity claims of an ID token that passed verification.
+ */
+public record VerifiedToken(String uid, String email, String name, String picture, Instant expiresAt) {
+}
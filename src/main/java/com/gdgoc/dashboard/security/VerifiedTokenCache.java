@@ -0,0 +1,156 @@
+package com.gdgoc.dashboard.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers ID tokens that already passed verification, with a snapshot of the user they
+ * resolved to, so bursts of API calls with the same token skip signature checks and the
+ * user lookup.
+ *
+ * Entries are keyed by a SHA-256 of the token (raw tokens are never kept) in a bounded
+ * Caffeine cache, and expire at the token's own "exp" claim, but no later than max-ttl after
+ * they were cached. Reads take no shared lock.
+ *
+ * Dropping a user's tokens after a role or profile change does not scan the cache: every
+ * entry records the eviction counter as it was before its user was looked up, and an entry
+ * older than its user's last eviction is ignored (and removed) on its next read. A user's
+ * last eviction is only remembered for max-ttl, after which every older entry has expired.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    public record Entry(AuthenticatedUser user, Instant expiresAt, long generation) {
+    }
+
+    private final Cache<String, Entry> entries;
+    private final AtomicLong evictions = new AtomicLong();
+    // User id -> value of the eviction counter at that user's last eviction, kept for max-ttl
+    private final Map<UUID, Long> evictedAt;
+
+    public VerifiedTokenCache(@Value("${app.auth.token-cache.max-size:10000}") int maxSize,
+            @Value("${app.auth.token-cache.max-ttl:1h}") Duration maxTtl) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(maxTtl))
+                .build();
+        this.evictedAt = Caffeine.newBuilder()
+                .expireAfterWrite(maxTtl)
+                .<UUID, Long>build()
+                .asMap();
+    }
+
+    /**
+     * Returns the cached entry for this token, or null if absent, expired or evicted.
+     */
+    public Entry get(String token) {
+        String key = hash(token);
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.generation() < evictedAt.getOrDefault(entry.user().id(), 0L)) {
+            entries.asMap().remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Read before looking the user up, and pass to {@link #put}: an eviction of that user in
+     * between then makes the new entry stale.
+     */
+    public long generation() {
+        return evictions.get();
+    }
+
+    public void put(String token, AuthenticatedUser user, Instant expiresAt, long generation) {
+        if (expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        String key = hash(token);
+        Entry entry = new Entry(user, expiresAt, generation);
+        entries.put(key, entry);
+        // An eviction that landed before this check is caught here; a later one is remembered
+        // for at least max-ttl from now, which outlives this entry
+        if (generation < evictedAt.getOrDefault(user.id(), 0L)) {
+            entries.asMap().remove(key, entry);
+        }
+    }
+
+    /**
+     * Drop every cached token of this user, e.g. after a role change. Inside a transaction the
+     * eviction is repeated after commit, so a request racing the update cannot re-cache the old state.
+     */
+    public void evictUser(UUID userId) {
+        evictNow(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(userId);
+                }
+            });
+        }
+    }
+
+    public void clear() {
+        entries.invalidateAll();
+    }
+
+    private void evictNow(UUID userId) {
+        // Entries with an older generation were looked up before this eviction
+        long generation = evictions.incrementAndGet();
+        evictedAt.merge(userId, generation, Math::max);
+    }
+
+    // An entry lives until its token's exp claim, at most max-ttl; reads do not extend it
+    private static final class TokenExpiry implements Expiry<String, Entry> {
+
+        private final long maxTtlNanos;
+
+        TokenExpiry(Duration maxTtl) {
+            this.maxTtlNanos = maxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            long untilExp = Math.max(0, Duration.between(Instant.now(), entry.expiresAt()).toNanos());
+            return Math.min(untilExp, maxTtlNanos);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.gdgoc.dashboard.seed;
+
+import com.gdgoc.dashboard.service.ContributorScoreService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bulk-loads a synthetic dataset for benchmarks and load tests.
+ * Enabled with the "seed" profile, e.g. {@code --spring.profiles.active=dev,seed}.
+ *
+ * Volumes, batch size and the random seed come from {@code app.seed.*}; the same seed
+ * always produces the same dataset. Membership and task counts are skewed: a few users
+ * belong to many projects and a few projects hold most of the tasks, as in production.
+ *
+ * Rows are written with plain JDBC batch inserts, so it works on H2 and PostgreSQL
+ * (add {@code reWriteBatchedInserts=true} to the PostgreSQL URL for multi-row inserts).
+ * Seeded users get firebase uids {@code seed-user-<n>}, so LocalTokenMinter can mint
+ * tokens for them. Nothing is loaded when the users table is not empty.
+ */
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final String[] TASK_PRIORITIES = { "LOW", "MEDIUM", "HIGH" };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ContributorScoreService contributorScoreService;
+
+    @Value("${app.seed.users:50000}")
+    private int userCount;
+
+    @Value("${app.seed.projects:5000}")
+    private int projectCount;
+
+    @Value("${app.seed.tasks:1000000}")
+    private int taskCount;
+
+    // Average members per project (leader included)
+    @Value("${app.seed.members-per-project:8}")
+    private int membersPerProject;
+
+    @Value("${app.seed.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${app.seed.random-seed:42}")
+    private long randomSeed;
+
+    @Override
+    public void run(String... args) {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        if (existing != null && existing > 0) {
+            log.warn("Synthetic data skipped: users table already has {} rows", existing);
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        Random random = new Random(randomSeed);
+        LocalDateTime now = LocalDateTime.now();
+
+        UUID[] users = insertUsers(random, now);
+        UUID[] leaders = leadersOf(users);
+        UUID[] projects = new UUID[projectCount];
+        List<List<UUID>> members = insertProjects(random, now, users, leaders, projects);
+        long assignments = insertTasks(random, now, projects, members);
+        // Written behind Hibernate's back: drop anything the second-level and query caches hold
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+        // ...and the contributor scores were initialized from the empty tables
+        contributorScoreService.rebuild();
+
+        log.info("Synthetic data loaded in {} ms: {} users, {} projects, {} memberships, {} tasks, {} assignments",
+                System.currentTimeMillis() - started, users.length, projects.length,
+                members.stream().mapToInt(List::size).sum(), taskCount, assignments);
+    }
+
+    /**
+     * 1 admin per 200 users (at least one), 1 leader per 20, the rest members.
+     * Leaders and admins come first, so skewed picks favour them.
+     */
+    private UUID[] insertUsers(Random random, LocalDateTime now) {
+        UUID[] users = new UUID[userCount];
+        int admins = Math.max(1, userCount / 200);
+        int leaders = Math.max(1, userCount / 20);
+        Batch batch = new Batch("INSERT INTO users (id, firebase_uid, email, display_name, role, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", null);
+        for (int i = 0; i < userCount; i++) {
+            users[i] = randomUuid(random);
+            String role = i < admins ? "ADMIN" : i < admins + leaders ? "LEADER" : "MEMBER";
+            batch.add(users[i], "seed-user-" + i, "seed.user" + i + "@example.com", "Seed User " + i, role,
+                    Timestamp.valueOf(now.minusMinutes(random.nextInt(365 * 24 * 60))));
+        }
+        batch.flush();
+        return users;
+    }
+
+    private UUID[] leadersOf(UUID[] users) {
+        int admins = Math.max(1, userCount / 200);
+        int leaders = Math.max(1, userCount / 20);
+        UUID[] result = new UUID[Math.min(leaders, users.length - admins)];
+        System.arraycopy(users, admins, result, 0, result.length);
+        return result.length > 0 ? result : users;
+    }
+
+    /**
+     * Projects with their leader plus a skewed number of members. Statuses stay within
+     * ACTIVE / COMPLETED, the values allowed by database_scripts/3_schema.sql.
+     */
+    private List<List<UUID>> insertProjects(Random random, LocalDateTime now, UUID[] users, UUID[] leaders,
+            UUID[] projects) {
+        Batch projectBatch = new Batch("INSERT INTO projects (id, name, description, leader_id, status, "
+                + "start_date, end_date, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", null);
+        Batch memberBatch = new Batch("INSERT INTO project_members (id, project_id, user_id, joined_at) "
+                + "VALUES (?, ?, ?, ?)", projectBatch);
+        List<List<UUID>> members = new ArrayList<>(projectCount);
+        LocalDate today = now.toLocalDate();
+
+        for (int p = 0; p < projectCount; p++) {
+            projects[p] = randomUuid(random);
+            UUID leader = leaders[skewedIndex(random, leaders.length)];
+            boolean completed = random.nextInt(4) == 0;
+            LocalDate start = today.minusDays(30 + random.nextInt(335));
+            LocalDate end = completed ? today.minusDays(random.nextInt(30)) : today.plusDays(random.nextInt(180));
+            LocalDateTime createdAt = start.atStartOfDay().plusMinutes(random.nextInt(24 * 60));
+            projectBatch.add(projects[p], "Seed Project " + p, "Synthetic project " + p, leader,
+                    completed ? "COMPLETED" : "ACTIVE", Date.valueOf(start), Date.valueOf(end),
+                    Timestamp.valueOf(createdAt));
+
+            // Team size between 2 and 2 + 2x average, mostly below average
+            int size = Math.min(users.length, 2 + (int) (membersPerProject * 2 * Math.pow(random.nextDouble(), 1.5)));
+            Set<UUID> team = new LinkedHashSet<>();
+            team.add(leader);
+            while (team.size() < size) {
+                team.add(users[skewedIndex(random, users.length)]);
+            }
+            for (UUID userId : team) {
+                memberBatch.add(randomUuid(random), projects[p], userId, Timestamp.valueOf(createdAt));
+            }
+            members.add(new ArrayList<>(team));
+        }
+        memberBatch.flush();
+        return members;
+    }
+
+    /**
+     * Tasks land on projects with a power-law skew and get 0-3 assignees from the project team.
+     * Deadlines spread from 4 months ago to 2 months ahead, so a share of open tasks is overdue.
+     */
+    private long insertTasks(Random random, LocalDateTime now, UUID[] projects, List<List<UUID>> members) {
+        Batch taskBatch = new Batch("INSERT INTO tasks (id, project_id, title, description, deadline, priority, "
+                + "status, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", null);
+        Batch assigneeBatch = new Batch("INSERT INTO task_assignees (task_id, user_id) VALUES (?, ?)", taskBatch);
+        LocalDate today = now.toLocalDate();
+        long assignments = 0;
+
+        for (int t = 0; t < taskCount; t++) {
+            int p = skewedIndex(random, projects.length);
+            UUID taskId = randomUuid(random);
+            int statusRoll = random.nextInt(100);
+            String status = statusRoll < 45 ? "DONE" : statusRoll < 70 ? "IN_PROGRESS" : "TODO";
+            LocalDate deadline = random.nextInt(10) == 0 ? null : today.plusDays(random.nextInt(180) - 120);
+            taskBatch.add(taskId, projects[p], "Seed Task " + t, null,
+                    deadline == null ? null : Date.valueOf(deadline),
+                    TASK_PRIORITIES[random.nextInt(TASK_PRIORITIES.length)], status,
+                    Timestamp.valueOf(now.minusMinutes(random.nextInt(180 * 24 * 60))));
+
+            List<UUID> team = members.get(p);
+            int assigneeCount = Math.min(team.size(), random.nextInt(10) < 7 ? 1 : random.nextInt(4));
+            int first = random.nextInt(team.size());
+            for (int a = 0; a < assigneeCount; a++) {
+                assigneeBatch.add(taskId, team.get((first + a) % team.size()));
+                assignments++;
+            }
+        }
+        assigneeBatch.flush();
+        return assignments;
+    }
+
+    /** Index in [0, size) biased towards 0: about half the picks fall in the first 12% of the range. */
+    private static int skewedIndex(Random random, int size) {
+        return (int) (size * Math.pow(random.nextDouble(), 3));
+    }
+
+    private static UUID randomUuid(Random random) {
+        long msb = (random.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+        long lsb = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Rows for one INSERT statement, sent in JDBC batches of app.seed.batch-size.
+     * A batch whose rows reference another batch's rows flushes that parent first.
+     */
+    private class Batch {
+
+        private final String sql;
+        private final Batch parent;
+        private final List<Object[]> rows = new ArrayList<>();
+
+        Batch(String sql, Batch parent) {
+            this.sql = sql;
+            this.parent = parent;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (parent != null) {
+                parent.flush();
+            }
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+    }
+}
@@ -1,65 +1,161 @@
 package com.gdgoc.dashboard.service;
 
 import com.gdgoc.dashboard.dto.response.UserResponse;
+import com.gdgoc.dashboard.entity.SystemFlag;
 import com.gdgoc.dashboard.entity.User;
 import com.gdgoc.dashboard.enums.Role;
-import com.gdgoc.dashboard.exception.ResourceNotFoundException;
+import com.gdgoc.dashboard.event.DomainEventBus;
+import com.gdgoc.dashboard.event.UserProfileChanged;
+import com.gdgoc.dashboard.event.UserRegistered;
+import com.gdgoc.dashboard.repository.SystemFlagRepository;
 import com.gdgoc.dashboard.repository.UserRepository;
-import com.google.firebase.FirebaseApp;
-import com.google.firebase.auth.FirebaseAuth;
-import com.google.firebase.auth.FirebaseToken;
+import com.gdgoc.dashboard.security.TokenVerifier;
+import com.gdgoc.dashboard.security.VerifiedToken;
+import com.gdgoc.dashboard.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Login: verify the ID token, then find-or-create the user.
+ *
+ * Built for login storms (a whole club signing in at the start of an event). The token is
+ * verified outside any transaction. Concurrent logins with the same claims share one
+ * database round trip. A returning user whose profile did not change costs no write, and
+ * the first-admin bootstrap is a one-time flag instead of counting the users table.
+ */
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final UserRepository userRepository;
+    private final SystemFlagRepository systemFlagRepository;
+    private final ContributorScoreService contributorScoreService;
+    private final VerifiedTokenCache tokenCache;
+    private final TokenVerifier tokenVerifier;
+    private final DomainEventBus eventBus;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // Logins in progress, by the claims they write
+    private final Map<LoginClaims, CompletableFuture<User>> inFlight = new ConcurrentHashMap<>();
+
+    // Set once the bootstrap flag is known to be taken, so later sign-ups skip the claim
+    private volatile boolean adminBootstrapped;
+
+    private record LoginClaims(String uid, String email, String name, String picture) {
+    }
 
     /**
-     * Verify a Firebase ID token and find-or-create the user in the database.
+     * Verify an ID token (Firebase, or local when app.auth.verifier=local) and find-or-create the user in the database.
      * Returns a UserResponse with the user's info and role.
      */
-    @Transactional
     public UserResponse loginWithFirebase(String idToken) {
-        if (FirebaseApp.getApps().isEmpty()) {
+        if (!tokenVerifier.isAvailable()) {
             throw new IllegalStateException("Firebase is not configured. Please add firebase-service-account.json.");
         }
 
+        VerifiedToken verified = tokenVerifier.verify(idToken);
+        LoginClaims claims = new LoginClaims(verified.uid(), verified.email(), verified.name(), verified.picture());
+        return toResponse(coalesced(claims));
+    }
+
+    /**
+     * Run the upsert for these claims, or wait for the identical one already running.
+     * The shared result is only published after its transaction committed.
+     */
+    private User coalesced(LoginClaims claims) {
+        CompletableFuture<User> mine = new CompletableFuture<>();
+        CompletableFuture<User> running = inFlight.putIfAbsent(claims, mine);
+        if (running != null) {
+            count("coalesced");
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            User user = upsert(claims);
+            mine.complete(user);
+            return user;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(claims, mine);
+        }
+    }
+
+    private User upsert(LoginClaims claims) {
         try {
-            FirebaseToken decodedToken = FirebaseAuth.getInstance().verifyIdToken(idToken);
-            String uid = decodedToken.getUid();
-            String email = decodedToken.getEmail();
-            String name = decodedToken.getName();
-            String picture = decodedToken.getPicture();
-
-            User user = userRepository.findByFirebaseUid(uid)
-                    .orElseGet(() -> {
-                        Role initialRole = userRepository.count() == 0 ? Role.ADMIN : Role.MEMBER;
-                        User newUser = User.builder()
-                                .firebaseUid(uid)
-                                .email(email)
-                                .displayName(name)
-                                .photoUrl(picture)
-                                .role(initialRole)
-                                .build();
-                        return userRepository.save(newUser);
-                    });
-
-            // Update profile info on every login (in case user changed their Google
-            // profile)
-            user.setDisplayName(name);
-            user.setPhotoUrl(picture);
-            userRepository.save(user);
-
-            return toResponse(user);
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Invalid Firebase ID token: " + e.getMessage());
+            return transactionTemplate.execute(status -> findOrCreate(claims));
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created the same user first: it is there now
+            return transactionTemplate.execute(status -> findOrCreate(claims));
         }
     }
 
+    private User findOrCreate(LoginClaims claims) {
+        User user = userRepository.findByFirebaseUid(claims.uid()).orElse(null);
+        if (user == null) {
+            User saved = userRepository.save(User.builder()
+                    .firebaseUid(claims.uid())
+                    .email(claims.email())
+                    .displayName(claims.name())
+                    .photoUrl(claims.picture())
+                    .role(claimAdminBootstrap() ? Role.ADMIN : Role.MEMBER)
+                    .build());
+            contributorScoreService.registerUser(saved.getId());
+            eventBus.publish(new UserRegistered(saved.getId()));
+            count("created");
+            return saved;
+        }
+
+        // Keep the profile in step with the Google account, writing only when it changed
+        boolean nameChanged = !Objects.equals(user.getDisplayName(), claims.name());
+        if (!nameChanged && Objects.equals(user.getPhotoUrl(), claims.picture())) {
+            count("unchanged");
+            return user;
+        }
+        if (nameChanged) {
+            eventBus.publish(new UserProfileChanged(user.getId()));
+        }
+        user.setDisplayName(claims.name());
+        user.setPhotoUrl(claims.picture());
+        userRepository.save(user);
+        tokenCache.evictUser(user.getId());
+        count("updated");
+        return user;
+    }
+
+    /**
+     * True for exactly one sign-up: the first one while the users table is empty.
+     */
+    private boolean claimAdminBootstrap() {
+        if (adminBootstrapped) {
+            return false;
+        }
+        if (systemFlagRepository.claimWhileNoUsers(SystemFlag.ADMIN_BOOTSTRAPPED) == 1) {
+            return true;
+        }
+        // Taken by a committed claim, or users existed before the flag did
+        adminBootstrapped = true;
+        return false;
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("auth.logins", "result", result).increment();
+    }
+
     public static UserResponse toResponse(User user) {
         if (user == null)
             return null;
@@ -0,0 +1,213 @@
+package com.gdgoc.dashboard.service;
+
+import com.gdgoc.dashboard.entity.ContributorScore;
+import com.gdgoc.dashboard.repository.ContributorScoreRepository;
+import com.gdgoc.dashboard.repository.ContributorScoreStateRepository;
+import com.gdgoc.dashboard.repository.TaskRepository;
+import com.gdgoc.dashboard.repository.projection.AssigneeTaskCounts;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps the contributor_scores table in step with the tasks.
+ *
+ * Overdue counts depend on the current date, so every row is relative to a shared
+ * "as of" date, stored in contributor_score_state. When the date moves on, only the open
+ * tasks whose deadline fell in between are counted and added, instead of recomputing
+ * every user.
+ *
+ * Writers read the date under a share lock held until they commit. The rollover runs on a
+ * schedule, outside any request, and advances the date with a conditional update: that
+ * update waits for the writers still using the old date, and only one instance wins it.
+ * The table is rebuilt from the tasks only when the state row does not exist yet.
+ */
+@Service
+@Slf4j
+public class ContributorScoreService {
+
+    private final ContributorScoreRepository contributorScoreRepository;
+    private final ContributorScoreStateRepository stateRepository;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate ownTransaction;
+
+    public ContributorScoreService(ContributorScoreRepository contributorScoreRepository,
+            ContributorScoreStateRepository stateRepository,
+            TaskRepository taskRepository,
+            PlatformTransactionManager transactionManager) {
+        this.contributorScoreRepository = contributorScoreRepository;
+        this.stateRepository = stateRepository;
+        this.taskRepository = taskRepository;
+        this.ownTransaction = new TransactionTemplate(transactionManager);
+        this.ownTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Contribution score formula:
+     * score = (completedTasks × 10) − (overdueTasks × 5)
+     *
+     * Minimum score is 0.
+     */
+    public static int calculateScore(long completedTasks, long overdueTasks) {
+        int score = (int) (completedTasks * 10 - overdueTasks * 5);
+        return Math.max(score, 0);
+    }
+
+    /**
+     * Seed the table from the tasks the first time the application runs against this database,
+     * before any request can write. Later starts, on any instance, keep the existing rows.
+     */
+    @PostConstruct
+    void initialize() {
+        ownTransaction.executeWithoutResult(status -> {
+            LocalDate today = LocalDate.now();
+            if (stateRepository.createIfMissing(today) == 1) {
+                recompute(today);
+            }
+        });
+        rollover();
+    }
+
+    /**
+     * Recompute every row from the tasks table, e.g. after bulk-loading data behind the
+     * application's back. Writers wait until it commits.
+     */
+    @Transactional
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+        if (stateRepository.reset(today) == 0) {
+            stateRepository.createIfMissing(today);
+        }
+        recompute(today);
+    }
+
+    /**
+     * Move the "as of" date to today if it is behind, adding the tasks that became overdue in
+     * between. Safe to run on every instance: only the one whose update advances the date
+     * applies the counts.
+     */
+    @Scheduled(cron = "${app.contributor-scores.rollover-cron:0 * * * * *}")
+    public void rollover() {
+        LocalDate today = LocalDate.now();
+        LocalDate from = ownTransaction.execute(status -> {
+            LocalDate asOf = stateRepository.findAsOf().orElse(null);
+            if (asOf == null || !asOf.isBefore(today) || stateRepository.advance(asOf, today) == 0) {
+                return null;
+            }
+            // Counted after the update got its lock, so every writer that used the old date has committed
+            for (AssigneeTaskCounts counts : taskRepository.countNewlyOverdueByAssignee(asOf, today)) {
+                contributorScoreRepository.applyDelta(counts.getUserId(), 0, 0, counts.getOverdueTasks());
+            }
+            return asOf;
+        });
+        if (from != null) {
+            log.info("Contributor scores rolled over from {} to {}", from, today);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<ContributorScore> getTopContributors(int limit) {
+        return contributorScoreRepository.findLeaderboard(PageRequest.of(0, limit));
+    }
+
+    /**
+     * Make sure a freshly created user shows up on the leaderboard with a zero score.
+     */
+    @Transactional
+    public void registerUser(UUID userId) {
+        // Not while a rebuild is inserting every user's row
+        currentAsOf();
+        contributorScoreRepository.insertMissing(List.of(userId));
+    }
+
+    /**
+     * Apply the difference between two states of one task. Pass null as
+     * {@code before} for a created task and as {@code after} for a deleted one.
+     */
+    @Transactional
+    public void onTaskChanged(TaskSnapshot before, TaskSnapshot after) {
+        onTasksChanged(before == null ? List.of() : List.of(before), after == null ? List.of() : List.of(after));
+    }
+
+    /**
+     * Apply many task changes at once, one update per affected user: {@code before} holds the
+     * previous state of every updated or deleted task, {@code after} the new state of every
+     * created or updated one.
+     */
+    @Transactional
+    public void onTasksChanged(Collection<TaskSnapshot> before, Collection<TaskSnapshot> after) {
+        LocalDate today = currentAsOf();
+        Map<UUID, long[]> deltas = new HashMap<>();
+        before.forEach(task -> accumulate(deltas, task, today, -1));
+        after.forEach(task -> accumulate(deltas, task, today, 1));
+        deltas.values().removeIf(d -> d[0] == 0 && d[1] == 0 && d[2] == 0);
+        applyDeltas(deltas);
+    }
+
+    /**
+     * Subtract every task of a project that is about to be deleted (tasks cascade with the project).
+     */
+    @Transactional
+    public void onProjectDeleted(UUID projectId) {
+        LocalDate today = currentAsOf();
+        Map<UUID, long[]> deltas = new HashMap<>();
+        for (AssigneeTaskCounts counts : taskRepository.countByAssigneeInProject(projectId, today)) {
+            deltas.put(counts.getUserId(), new long[] {
+                    -counts.getTotalTasks(), -counts.getCompletedTasks(), -counts.getOverdueTasks() });
+        }
+        applyDeltas(deltas);
+    }
+
+    // --- Helpers ---
+
+    private void recompute(LocalDate asOf) {
+        contributorScoreRepository.deleteAllInBatch();
+        int rows = contributorScoreRepository.insertAllFromTasks(asOf);
+        contributorScoreRepository.recalculateAllScores();
+        log.info("Contributor scores rebuilt for {} users (as of {})", rows, asOf);
+    }
+
+    private void accumulate(Map<UUID, long[]> deltas, TaskSnapshot task, LocalDate today, int sign) {
+        if (task == null) {
+            return;
+        }
+        long completed = task.isCompleted() ? sign : 0;
+        long overdue = task.isOverdue(today) ? sign : 0;
+        for (UUID userId : task.assigneeIds()) {
+            long[] delta = deltas.computeIfAbsent(userId, id -> new long[3]);
+            delta[0] += sign;
+            delta[1] += completed;
+            delta[2] += overdue;
+        }
+    }
+
+    private void applyDeltas(Map<UUID, long[]> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        contributorScoreRepository.insertMissing(deltas.keySet());
+        deltas.forEach((userId, d) -> contributorScoreRepository.applyDelta(userId, d[0], d[1], d[2]));
+    }
+
+    /**
+     * Returns the date overdue counters are relative to. The share lock keeps the rollover
+     * from moving it until the calling transaction has committed its deltas.
+     */
+    private LocalDate currentAsOf() {
+        return stateRepository.findAsOfForShare()
+                .orElseThrow(() -> new IllegalStateException("Contributor scores are not initialized"));
+    }
+}
@@ -0,0 +1,266 @@
+package com.gdgoc.dashboard.service;
+
+import com.gdgoc.dashboard.dto.response.CacheRegionStats;
+import com.gdgoc.dashboard.dto.response.DashboardAdminResponse;
+import com.gdgoc.dashboard.dto.response.DashboardLeaderResponse;
+import com.gdgoc.dashboard.dto.response.DashboardMemberResponse;
+import com.gdgoc.dashboard.event.DomainEvent;
+import com.gdgoc.dashboard.event.DomainEventSubscriber;
+import com.gdgoc.dashboard.event.MemberAdded;
+import com.gdgoc.dashboard.event.MemberRemoved;
+import com.gdgoc.dashboard.event.ProjectCreated;
+import com.gdgoc.dashboard.event.ProjectDeleted;
+import com.gdgoc.dashboard.event.ProjectUpdated;
+import com.gdgoc.dashboard.event.TaskEvent;
+import com.gdgoc.dashboard.event.UserEvent;
+import com.gdgoc.dashboard.event.UserRoleChanged;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache of dashboard responses, in three regions: the admin dashboard, leader
+ * dashboards per project and member dashboards per user. Each region is a bounded LRU whose
+ * entries also expire after a TTL, which bounds staleness from things no event reports
+ * (a deadline passing at midnight).
+ *
+ * Entries are invalidated by the domain events the services publish, once the writing
+ * transaction has committed (a synchronous {@link DomainEventSubscriber}). A value computed while an invalidation happened in the same
+ * region is returned but not stored, so a read racing a commit cannot re-cache old data.
+ */
+@Component
+public class DashboardCache implements DomainEventSubscriber {
+
+    /**
+     * Cached leader dashboard with the project's leader, so access can be checked on a hit.
+     */
+    public record LeaderEntry(UUID leaderId, DashboardLeaderResponse response) {
+    }
+
+    private static final String ADMIN_KEY = "admin";
+
+    private final Region<String, DashboardAdminResponse> admin;
+    private final Region<UUID, LeaderEntry> leader;
+    private final Region<UUID, DashboardMemberResponse> member;
+
+    public DashboardCache(
+            @Value("${app.dashboard.cache.admin.ttl:60s}") Duration adminTtl,
+            @Value("${app.dashboard.cache.leader.ttl:60s}") Duration leaderTtl,
+            @Value("${app.dashboard.cache.leader.max-size:1000}") int leaderMaxSize,
+            @Value("${app.dashboard.cache.member.ttl:30s}") Duration memberTtl,
+            @Value("${app.dashboard.cache.member.max-size:10000}") int memberMaxSize) {
+        this.admin = new Region<>("admin", adminTtl, 1);
+        this.leader = new Region<>("leader", leaderTtl, leaderMaxSize);
+        this.member = new Region<>("member", memberTtl, memberMaxSize);
+    }
+
+    public DashboardAdminResponse admin(Supplier<DashboardAdminResponse> loader) {
+        // Partial responses are served but not cached, so the next request retries the missing sections
+        return admin.get(ADMIN_KEY, loader, response -> response.getUnavailableSections() == null
+                || response.getUnavailableSections().isEmpty());
+    }
+
+    public LeaderEntry leader(UUID projectId, Supplier<LeaderEntry> loader) {
+        return leader.get(projectId, loader);
+    }
+
+    public DashboardMemberResponse member(UUID userId, Supplier<DashboardMemberResponse> loader) {
+        return member.get(userId, loader);
+    }
+
+    public List<CacheRegionStats> stats() {
+        return List.of(admin.stats(), leader.stats(), member.stats());
+    }
+
+    public void clear() {
+        admin.clear();
+        leader.clear();
+        member.clear();
+    }
+
+    // --- Invalidation ---
+
+    // Called on the committing thread so a user sees their own change on the next read
+    @Override
+    public boolean async() {
+        return false;
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> batch) {
+        boolean clearAdmin = false;
+        boolean clearLeaders = false;
+        boolean clearMembers = false;
+        Set<UUID> projectIds = new HashSet<>();
+        Set<UUID> userIds = new HashSet<>();
+
+        for (DomainEvent event : batch) {
+            switch (event) {
+                // Task counters feed every region: admin totals and top contributors, the project's
+                // leader dashboard, and the dashboards of everyone assigned before or after
+                case TaskEvent task -> {
+                    clearAdmin = true;
+                    projectIds.add(task.projectId());
+                    userIds.addAll(task.affectedUserIds());
+                }
+                case ProjectDeleted deleted -> {
+                    clearAdmin = true;
+                    projectIds.add(deleted.projectId());
+                    // The project's tasks are gone too; their assignees are not known here
+                    clearMembers = true;
+                }
+                case ProjectCreated created -> {
+                    clearAdmin = true;
+                    projectIds.add(created.projectId());
+                }
+                case ProjectUpdated updated -> {
+                    clearAdmin = true;
+                    projectIds.add(updated.projectId());
+                }
+                case MemberAdded added -> projectIds.add(added.projectId());
+                case MemberRemoved removed -> projectIds.add(removed.projectId());
+                // Roles are not shown, and access is checked on every read, cached or not
+                case UserRoleChanged changed -> {
+                }
+                // Display names appear in the admin top contributors and leader member lists
+                case UserEvent user -> {
+                    clearAdmin = true;
+                    clearLeaders = true;
+                }
+            }
+        }
+
+        if (clearAdmin) {
+            admin.clear();
+        }
+        if (clearLeaders) {
+            leader.clear();
+        } else if (!projectIds.isEmpty()) {
+            leader.evictAll(projectIds);
+        }
+        if (clearMembers) {
+            member.clear();
+        } else if (!userIds.isEmpty()) {
+            member.evictAll(userIds);
+        }
+    }
+
+    /**
+     * One bounded LRU map with TTL and counters.
+     */
+    private static final class Region<K, V> {
+
+        private record Entry<V>(V value, Instant expiresAt) {
+        }
+
+        private final String name;
+        private final Duration ttl;
+        private final int maxSize;
+        private final Map<K, Entry<V>> entries;
+        // Bumped by every invalidation; a load only stores its value if this did not move
+        private final AtomicLong generation = new AtomicLong();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder invalidations = new LongAdder();
+
+        Region(String name, Duration ttl, int maxSize) {
+            this.name = name;
+            this.ttl = ttl;
+            this.maxSize = maxSize;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                    if (size() > Region.this.maxSize) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        V get(K key, Supplier<V> loader) {
+            return get(key, loader, value -> true);
+        }
+
+        V get(K key, Supplier<V> loader, Predicate<V> cacheable) {
+            long startGeneration;
+            synchronized (entries) {
+                Entry<V> entry = entries.get(key);
+                if (entry != null && entry.expiresAt().isAfter(Instant.now())) {
+                    hits.increment();
+                    return entry.value();
+                }
+                if (entry != null) {
+                    entries.remove(key);
+                }
+                startGeneration = generation.get();
+            }
+            misses.increment();
+
+            // Computed outside the lock; concurrent misses on the same key may both load
+            V value = loader.get();
+            if (value != null && ttl.isPositive() && cacheable.test(value)) {
+                synchronized (entries) {
+                    if (generation.get() == startGeneration) {
+                        entries.put(key, new Entry<>(value, Instant.now().plus(ttl)));
+                    }
+                }
+            }
+            return value;
+        }
+
+        void evictAll(Collection<K> keys) {
+            synchronized (entries) {
+                generation.incrementAndGet();
+                for (K key : keys) {
+                    if (entries.remove(key) != null) {
+                        invalidations.increment();
+                    }
+                }
+            }
+        }
+
+        void clear() {
+            synchronized (entries) {
+                generation.incrementAndGet();
+                invalidations.add(entries.size());
+                entries.clear();
+            }
+        }
+
+        CacheRegionStats stats() {
+            long hitCount = hits.sum();
+            long missCount = misses.sum();
+            long total = hitCount + missCount;
+            int size;
+            synchronized (entries) {
+                size = entries.size();
+            }
+            return CacheRegionStats.builder()
+                    .region(name)
+                    .size(size)
+                    .maxSize(maxSize)
+                    .hits(hitCount)
+                    .misses(missCount)
+                    .hitRate(total > 0 ? Math.round((double) hitCount / total * 10000.0) / 100.0 : 0)
+                    .evictions(evictions.sum())
+                    .invalidations(invalidations.sum())
+                    .build();
+        }
+    }
+}
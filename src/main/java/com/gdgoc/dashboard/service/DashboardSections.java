@@ -0,0 +1,202 @@
+package com.gdgoc.dashboard.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent dashboard sub-queries ("sections") concurrently, each in its own read-only
+ * transaction on a bounded executor, so a dashboard takes about as long as its slowest section.
+ *
+ * All sections of one {@link Fanout} share a deadline. A section that fails or misses it is
+ * reported as unavailable and its value is null, or, with partial results disabled, fails
+ * the whole dashboard. A missed section that has not started yet is dropped; one that is
+ * already running is not interrupted but is stopped by its transaction timeout (the fan-out
+ * timeout, rounded up to whole seconds), which bounds how long it keeps its connection.
+ *
+ * When the executor is saturated the caller runs the section itself. With virtual threads
+ * enabled each section gets its own virtual thread, but at most threads + queue-capacity
+ * sections are in flight at once, the same number the platform pool accepts.
+ * Every section is timed as {@code dashboard.section} (tags dashboard, section, outcome).
+ */
+@Component
+@Slf4j
+public class DashboardSections {
+
+    private final ExecutorService executor;
+    // Virtual threads only: the executor itself is unbounded
+    private final Semaphore permits;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate readOnly;
+    private final Duration timeout;
+    private final boolean partialResults;
+
+    public DashboardSections(
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.dashboard.fan-out.threads:4}") int threads,
+            @Value("${app.dashboard.fan-out.queue-capacity:64}") int queueCapacity,
+            @Value("${app.dashboard.fan-out.timeout:5s}") Duration timeout,
+            @Value("${app.dashboard.fan-out.partial-results:true}") boolean partialResults,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.meterRegistry = meterRegistry;
+        this.timeout = timeout;
+        this.partialResults = partialResults;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        // Also bounds the statements themselves, so an abandoned section does not keep its connection
+        this.readOnly.setTimeout((int) Math.max(1, (timeout.toMillis() + 999) / 1000));
+        if (virtualThreads) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("dashboard-", 1).factory());
+            this.permits = new Semaphore(threads + queueCapacity);
+        } else {
+            this.permits = null;
+            AtomicInteger threadCount = new AtomicInteger();
+            this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "dashboard-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+    }
+
+    public Fanout start(String dashboard) {
+        return new Fanout(dashboard, System.nanoTime() + timeout.toNanos());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void execute(Runnable task) {
+        if (permits == null) {
+            executor.execute(task);
+            return;
+        }
+        if (!permits.tryAcquire()) {
+            // Saturated: run in the caller, as the platform pool's CallerRunsPolicy does
+            task.run();
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * One dashboard computation: submit every section first, then read them.
+     */
+    public final class Fanout {
+
+        private final String dashboard;
+        private final long deadline;
+        private final List<String> unavailable = Collections.synchronizedList(new ArrayList<>());
+
+        private Fanout(String dashboard, long deadline) {
+            this.dashboard = dashboard;
+            this.deadline = deadline;
+        }
+
+        public <T> Section<T> submit(String name, Supplier<T> work) {
+            return new Section<>(name, CompletableFuture.supplyAsync(() -> timed(name, work),
+                    DashboardSections.this::execute));
+        }
+
+        private <T> T timed(String name, Supplier<T> work) {
+            long started = System.nanoTime();
+            String outcome = "error";
+            try {
+                T result = readOnly.execute(status -> work.get());
+                outcome = "success";
+                return result;
+            } finally {
+                Timer.builder("dashboard.section")
+                        .tags("dashboard", dashboard, "section", name, "outcome", outcome)
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        /**
+         * Names of the sections that failed or timed out, in the order they were read.
+         */
+        public List<String> unavailable() {
+            return List.copyOf(unavailable);
+        }
+
+        public final class Section<T> {
+
+            private final String name;
+            private final CompletableFuture<T> future;
+
+            private Section(String name, CompletableFuture<T> future) {
+                this.name = name;
+                this.future = future;
+            }
+
+            /**
+             * Wait for the section until the shared deadline. Returns null if it is unavailable
+             * and partial results are allowed.
+             */
+            public T get() {
+                try {
+                    return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return unavailable(e);
+                } catch (TimeoutException e) {
+                    // Keeps a queued section from starting; a running one ends at its transaction timeout
+                    future.cancel(false);
+                    return unavailable(e);
+                } catch (ExecutionException e) {
+                    return unavailable(e.getCause());
+                }
+            }
+
+            private T unavailable(Throwable cause) {
+                if (!partialResults) {
+                    throw new IllegalStateException("Dashboard section " + name + " is unavailable", cause);
+                }
+                log.warn("Dashboard section {} unavailable: {}", name, cause.toString());
+                unavailable.add(name);
+                return null;
+            }
+        }
+    }
+}
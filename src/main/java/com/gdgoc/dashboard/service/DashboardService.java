@@ -1,26 +1,35 @@
 package com.gdgoc.dashboard.service;
 
 import com.gdgoc.dashboard.dto.response.*;
+import com.gdgoc.dashboard.entity.ContributorScore;
 import com.gdgoc.dashboard.entity.Project;
 import com.gdgoc.dashboard.entity.ProjectMember;
 import com.gdgoc.dashboard.entity.User;
-import com.gdgoc.dashboard.enums.ProjectStatus;
 import com.gdgoc.dashboard.enums.Role;
-import com.gdgoc.dashboard.enums.TaskStatus;
 import com.gdgoc.dashboard.exception.ResourceNotFoundException;
 import com.gdgoc.dashboard.exception.UnauthorizedException;
+import com.gdgoc.dashboard.metrics.EntityCacheStats;
+import com.gdgoc.dashboard.repository.DashboardStatsRepository;
 import com.gdgoc.dashboard.repository.ProjectMemberRepository;
 import com.gdgoc.dashboard.repository.ProjectRepository;
 import com.gdgoc.dashboard.repository.TaskRepository;
-import com.gdgoc.dashboard.repository.UserRepository;
+import com.gdgoc.dashboard.repository.projection.AdminProjectCounters;
+import com.gdgoc.dashboard.repository.projection.AdminTaskCounters;
+import com.gdgoc.dashboard.repository.projection.AssigneeTaskCounts;
+import com.gdgoc.dashboard.repository.projection.MemberTaskCounters;
+import com.gdgoc.dashboard.repository.projection.ProjectTaskCounters;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,139 +39,146 @@ public class DashboardService {
         private final ProjectRepository projectRepository;
         private final ProjectMemberRepository projectMemberRepository;
         private final TaskRepository taskRepository;
-        private final UserRepository userRepository;
+        private final ContributorScoreService contributorScoreService;
+        private final DashboardStatsRepository dashboardStatsRepository;
+        private final DashboardCache dashboardCache;
+        private final DashboardSections dashboardSections;
+        private final MeterRegistry meterRegistry;
+        private final EntityCacheStats entityCacheStats;
 
         /**
-         * Admin dashboard: overall system statistics.
+         * Admin dashboard: overall system statistics. Served from DashboardCache while fresh.
          */
         public DashboardAdminResponse getAdminDashboard() {
-                LocalDate today = LocalDate.now();
-                List<Project> allProjects = projectRepository.findAll();
+                return dashboardCache.admin(() -> timed("admin", this::loadAdminDashboard));
+        }
 
-                long totalProjects = allProjects.size();
-                long completedProjects = allProjects.stream()
-                                .filter(p -> p.getStatus() == ProjectStatus.COMPLETED)
-                                .count();
+        /**
+         * Leader dashboard: project-level statistics. Served from DashboardCache while fresh;
+         * access is checked against the cached project leader.
+         */
+        public DashboardLeaderResponse getLeaderDashboard(UUID projectId, User currentUser) {
+                DashboardCache.LeaderEntry entry = dashboardCache.leader(projectId,
+                                () -> timed("leader", () -> loadLeaderDashboard(projectId, currentUser)));
+                validateLeaderAccess(entry.leaderId(), currentUser);
+                return entry.response();
+        }
 
-                List<Project> nonCompleted = allProjects.stream()
-                                .filter(p -> p.getStatus() != ProjectStatus.COMPLETED
-                                                && p.getStatus() != ProjectStatus.CANCELLED)
-                                .collect(Collectors.toList());
+        /**
+         * Member dashboard: personal performance stats, from one aggregate query over the user's
+         * assigned tasks. Served from DashboardCache while fresh.
+         */
+        public DashboardMemberResponse getMemberDashboard(User currentUser) {
+                UUID userId = currentUser.getId();
+                return dashboardCache.member(userId, () -> timed("member", () -> loadMemberDashboard(userId)));
+        }
 
-                // Projects that have started and not yet reached deadline (or have no deadline)
-                List<Project> activeProjectsList = nonCompleted.stream()
-                                .filter(p -> p.getStartDate() != null && !p.getStartDate().isAfter(today)
-                                                && (p.getEndDate() == null || !p.getEndDate().isBefore(today)))
-                                .collect(Collectors.toList());
-                long activeProjects = activeProjectsList.size();
-
-                // Projects where end date has passed
-                long overdueProjects = nonCompleted.stream()
-                                .filter(p -> p.getEndDate() != null && p.getEndDate().isBefore(today))
-                                .count();
-
-                // Projects that haven't started yet (future start date)
-                long upcomingProjects = nonCompleted.stream()
-                                .filter(p -> p.getStartDate() != null && p.getStartDate().isAfter(today))
-                                .count();
-
-                // Set of active project IDs for task filtering
-                Set<UUID> activeProjectIds = activeProjectsList.stream()
-                                .map(Project::getId)
-                                .collect(Collectors.toSet());
-
-                long totalMembers = userRepository.count();
-                long totalTasks = taskRepository.count();
-                long completedTasks = taskRepository.countByStatus(TaskStatus.DONE);
-                // Overdue tasks ONLY in active projects — use repository query
-                long overdueTasks = activeProjectIds.isEmpty() ? 0
-                                : taskRepository.findAll().stream()
-                                                .filter(t -> t.getProject() != null
-                                                                && activeProjectIds.contains(t.getProject().getId()))
-                                                .filter(t -> t.getDeadline() != null
-                                                                && t.getDeadline().isBefore(today)
-                                                                && t.getStatus() != TaskStatus.DONE)
-                                                .count();
-
-                // Top contributors (top 10 by contribution score)
-                List<ContributorStats> topContributors = userRepository.findAll().stream()
-                                .map(this::calculateContributorStats)
-                                .sorted(Comparator.comparingInt(ContributorStats::getContributionScore).reversed())
-                                .limit(10)
-                                .collect(Collectors.toList());
+        public List<CacheRegionStats> getCacheStats() {
+                List<CacheRegionStats> stats = new ArrayList<>(dashboardCache.stats());
+                stats.addAll(entityCacheStats.stats());
+                return stats;
+        }
 
-                return DashboardAdminResponse.builder()
-                                .totalProjects(totalProjects)
-                                .activeProjects(activeProjects)
-                                .completedProjects(completedProjects)
-                                .overdueProjects(overdueProjects)
-                                .upcomingProjects(upcomingProjects)
-                                .totalMembers(totalMembers)
-                                .totalTasks(totalTasks)
-                                .completedTasks(completedTasks)
-                                .overdueTasks(overdueTasks)
-                                .topContributors(topContributors)
+        // --- Computation (cache misses) ---
+
+        // Cache misses only, timed as dashboard.load; hits show up in http.server.requests
+        private <T> T timed(String dashboard, Supplier<T> load) {
+                return meterRegistry.timer("dashboard.load", "dashboard", dashboard).record(load);
+        }
+
+        private DashboardAdminResponse loadAdminDashboard() {
+                LocalDate today = LocalDate.now();
+
+                // Independent sections run concurrently (see DashboardSections); all counters are
+                // aggregated in the database (see DashboardStatsRepository)
+                DashboardSections.Fanout fanout = dashboardSections.start("admin");
+                var projectSection = fanout.submit("projectCounters",
+                                () -> dashboardStatsRepository.getAdminProjectCounters(today));
+                var taskSection = fanout.submit("taskCounters",
+                                () -> dashboardStatsRepository.getAdminTaskCounters(today));
+                var memberSection = fanout.submit("members", dashboardStatsRepository::countMembers);
+                // Top contributors (top 10 by contribution score), read from the maintained score table
+                var contributorSection = fanout.submit("topContributors",
+                                () -> contributorScoreService.getTopContributors(10).stream()
+                                                .map(this::toContributorStats)
+                                                .collect(Collectors.toList()));
+
+                DashboardAdminResponse.DashboardAdminResponseBuilder response = DashboardAdminResponse.builder();
+                AdminProjectCounters projectCounters = projectSection.get();
+                if (projectCounters != null) {
+                        response.totalProjects(projectCounters.getTotalProjects())
+                                        .activeProjects(projectCounters.getActiveProjects())
+                                        .completedProjects(projectCounters.getCompletedProjects())
+                                        .overdueProjects(projectCounters.getOverdueProjects())
+                                        .upcomingProjects(projectCounters.getUpcomingProjects());
+                }
+                AdminTaskCounters taskCounters = taskSection.get();
+                if (taskCounters != null) {
+                        response.totalTasks(taskCounters.getTotalTasks())
+                                        .completedTasks(taskCounters.getCompletedTasks())
+                                        .overdueTasks(taskCounters.getOverdueTasks());
+                }
+                Long totalMembers = memberSection.get();
+                if (totalMembers != null) {
+                        response.totalMembers(totalMembers);
+                }
+                List<ContributorStats> topContributors = contributorSection.get();
+                return response
+                                .topContributors(topContributors != null ? topContributors : List.of())
+                                .unavailableSections(fanout.unavailable())
                                 .build();
         }
 
-        /**
-         * Leader dashboard: project-level statistics.
-         */
-        public DashboardLeaderResponse getLeaderDashboard(UUID projectId, User currentUser) {
+        private DashboardCache.LeaderEntry loadLeaderDashboard(UUID projectId, User currentUser) {
                 Project project = projectRepository.findById(projectId)
                                 .orElseThrow(() -> new ResourceNotFoundException(
                                                 "Project not found with id: " + projectId));
 
-                // Validate access: must be leader of this project or admin
-                boolean isLeader = project.getLeader() != null
-                                && project.getLeader().getId().equals(currentUser.getId());
-                if (currentUser.getRole() != Role.ADMIN && !isLeader) {
-                        throw new UnauthorizedException("You are not the leader of this project");
-                }
+                // Checked before computing, so a forbidden request costs one lookup
+                UUID leaderId = project.getLeader() != null ? project.getLeader().getId() : null;
+                validateLeaderAccess(leaderId, currentUser);
 
-                long memberCount = projectMemberRepository.countByProjectId(projectId);
-                long totalTasks = taskRepository.countByProjectId(projectId);
-                long todoTasks = taskRepository.countByProjectIdAndStatus(projectId, TaskStatus.TODO);
-                long inProgressTasks = taskRepository.countByProjectIdAndStatus(projectId, TaskStatus.IN_PROGRESS);
-                long completedTasks = taskRepository.countByProjectIdAndStatus(projectId, TaskStatus.DONE);
-                long overdueTasks = taskRepository.findByProjectId(projectId).stream()
-                                .filter(t -> t.getDeadline() != null
-                                                && t.getDeadline().isBefore(LocalDate.now())
-                                                && t.getStatus() != TaskStatus.DONE)
-                                .count();
+                // One aggregate over the project's tasks, one grouped by assignee, one for the members
+                LocalDate today = LocalDate.now();
+                ProjectTaskCounters counters = dashboardStatsRepository.getProjectTaskCounters(projectId, today);
+                Map<UUID, AssigneeTaskCounts> countsByUser = taskRepository.countByAssigneeInProject(projectId, today)
+                                .stream()
+                                .collect(Collectors.toMap(AssigneeTaskCounts::getUserId, Function.identity()));
+                List<ProjectMember> members = projectMemberRepository.findWithUserByProjectId(projectId);
 
                 // Member performances in this project
-                List<ContributorStats> memberPerformances = projectMemberRepository.findByProjectId(projectId)
-                                .stream()
-                                .map(pm -> calculateContributorStatsForProject(pm.getUser(), projectId))
+                List<ContributorStats> memberPerformances = members.stream()
+                                .map(pm -> toProjectContributorStats(pm.getUser(), countsByUser.get(pm.getUser().getId())))
                                 .sorted(Comparator.comparingInt(ContributorStats::getContributionScore).reversed())
                                 .collect(Collectors.toList());
 
-                return DashboardLeaderResponse.builder()
+                DashboardLeaderResponse response = DashboardLeaderResponse.builder()
                                 .projectId(projectId)
                                 .projectName(project.getName())
-                                .memberCount(memberCount)
-                                .totalTasks(totalTasks)
-                                .todoTasks(todoTasks)
-                                .inProgressTasks(inProgressTasks)
-                                .completedTasks(completedTasks)
-                                .overdueTasks(overdueTasks)
+                                .memberCount(members.size())
+                                .totalTasks(counters.getTotalTasks())
+                                .todoTasks(counters.getTodoTasks())
+                                .inProgressTasks(counters.getInProgressTasks())
+                                .completedTasks(counters.getCompletedTasks())
+                                .overdueTasks(counters.getOverdueTasks())
                                 .memberPerformances(memberPerformances)
                                 .build();
+                return new DashboardCache.LeaderEntry(leaderId, response);
         }
 
-        /**
-         * Member dashboard: personal performance stats.
-         */
-        public DashboardMemberResponse getMemberDashboard(User currentUser) {
-                UUID userId = currentUser.getId();
+        // Must be leader of this project or admin
+        private void validateLeaderAccess(UUID leaderId, User currentUser) {
+                boolean isLeader = leaderId != null && leaderId.equals(currentUser.getId());
+                if (currentUser.getRole() != Role.ADMIN && !isLeader) {
+                        throw new UnauthorizedException("You are not the leader of this project");
+                }
+        }
 
-                long totalAssigned = taskRepository.findByAssigneesId(userId).size();
-                long completedTasks = taskRepository.countByAssigneesIdAndStatus(userId, TaskStatus.DONE);
-                long inProgressTasks = taskRepository.countByAssigneesIdAndStatus(userId, TaskStatus.IN_PROGRESS);
-                long todoTasks = taskRepository.countByAssigneesIdAndStatus(userId, TaskStatus.TODO);
-                long overdueTasks = taskRepository.countByAssigneesIdAndDeadlineBeforeAndStatusNot(
-                                userId, LocalDate.now(), TaskStatus.DONE);
+        private DashboardMemberResponse loadMemberDashboard(UUID userId) {
+                MemberTaskCounters counters = dashboardStatsRepository.getMemberTaskCounters(userId, LocalDate.now());
+                long totalAssigned = counters.getTotalTasks();
+                long completedTasks = counters.getCompletedTasks();
+                long overdueTasks = counters.getOverdueTasks();
 
                 double completionRate = totalAssigned > 0
                                 ? (double) completedTasks / totalAssigned * 100
@@ -173,8 +189,8 @@ public class DashboardService {
                 return DashboardMemberResponse.builder()
                                 .totalAssigned(totalAssigned)
                                 .completedTasks(completedTasks)
-                                .inProgressTasks(inProgressTasks)
-                                .todoTasks(todoTasks)
+                                .inProgressTasks(counters.getInProgressTasks())
+                                .todoTasks(counters.getTodoTasks())
                                 .overdueTasks(overdueTasks)
                                 .completionRate(Math.round(completionRate * 100.0) / 100.0)
                                 .contributionScore(contributionScore)
@@ -183,44 +199,29 @@ public class DashboardService {
 
         // --- Contribution Score Logic ---
 
-        /**
-         * Contribution score formula:
-         * score = (completedTasks × 10) − (overdueTasks × 5)
-         *
-         * Computed on-the-fly for freshness. Minimum score is 0.
-         */
         private int calculateScore(long completedTasks, long overdueTasks) {
-                int score = (int) (completedTasks * 10 - overdueTasks * 5);
-                return Math.max(score, 0);
+                return ContributorScoreService.calculateScore(completedTasks, overdueTasks);
         }
 
-        private ContributorStats calculateContributorStats(User user) {
-                UUID userId = user.getId();
-                long completed = taskRepository.countByAssigneesIdAndStatus(userId, TaskStatus.DONE);
-                long overdue = taskRepository.countByAssigneesIdAndDeadlineBeforeAndStatusNot(
-                                userId, LocalDate.now(), TaskStatus.DONE);
-                long total = taskRepository.findByAssigneesId(userId).size();
-                double completionRate = total > 0 ? (double) completed / total * 100 : 0;
+        private ContributorStats toContributorStats(ContributorScore score) {
+                long total = score.getTotalTasks();
+                double completionRate = total > 0 ? (double) score.getCompletedTasks() / total * 100 : 0;
 
                 return ContributorStats.builder()
-                                .userId(userId)
-                                .displayName(user.getDisplayName())
-                                .completedTasks(completed)
-                                .overdueTasks(overdue)
+                                .userId(score.getUserId())
+                                .displayName(score.getUser().getDisplayName())
+                                .completedTasks(score.getCompletedTasks())
+                                .overdueTasks(score.getOverdueTasks())
                                 .completionRate(Math.round(completionRate * 100.0) / 100.0)
-                                .contributionScore(calculateScore(completed, overdue))
+                                .contributionScore(score.getContributionScore())
                                 .build();
         }
 
-        private ContributorStats calculateContributorStatsForProject(User user, UUID projectId) {
-                var tasks = taskRepository.findByProjectIdAndAssigneesId(projectId, user.getId());
-                long completed = tasks.stream().filter(t -> t.getStatus() == TaskStatus.DONE).count();
-                long overdue = tasks.stream()
-                                .filter(t -> t.getDeadline() != null
-                                                && t.getDeadline().isBefore(LocalDate.now())
-                                                && t.getStatus() != TaskStatus.DONE)
-                                .count();
-                long total = tasks.size();
+        // Members without tasks in the project have no counts row
+        private ContributorStats toProjectContributorStats(User user, AssigneeTaskCounts counts) {
+                long completed = counts == null ? 0 : counts.getCompletedTasks();
+                long overdue = counts == null ? 0 : counts.getOverdueTasks();
+                long total = counts == null ? 0 : counts.getTotalTasks();
                 double completionRate = total > 0 ? (double) completed / total * 100 : 0;
 
                 return ContributorStats.builder()
@@ -0,0 +1,101 @@
+package com.gdgoc.dashboard.service;
+
+import com.gdgoc.dashboard.dto.response.MeterStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-only view of the application's meters for the admin metrics endpoint: request,
+ * repository and dashboard latencies, connection pool and statement counters. The same meters
+ * are scraped in Prometheus format from /api/actuator/prometheus.
+ */
+@Service
+@RequiredArgsConstructor
+public class MetricsService {
+
+    private static final List<String> PREFIXES = List.of(
+            "http.server.requests",
+            "spring.data.repository.invocations",
+            "dashboard.",
+            "cache.",
+            "auth.",
+            "hikaricp.",
+            "datasource.concurrency.",
+            "jdbc.statements",
+            "sse.");
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Timers first, slowest in total first; then counters and gauges by name.
+     */
+    public List<MeterStats> getMeterStats() {
+        List<MeterStats> timers = new ArrayList<>();
+        List<MeterStats> others = new ArrayList<>();
+        for (Meter meter : meterRegistry.getMeters()) {
+            String name = meter.getId().getName();
+            if (PREFIXES.stream().noneMatch(name::startsWith)) {
+                continue;
+            }
+            if (meter instanceof Timer timer) {
+                if (timer.count() > 0) {
+                    timers.add(toStats(timer));
+                }
+            } else if (meter instanceof Counter counter) {
+                others.add(base(meter).count((long) counter.count()).build());
+            } else if (meter instanceof FunctionCounter counter) {
+                others.add(base(meter).count((long) counter.count()).build());
+            } else if (meter instanceof Gauge gauge) {
+                others.add(base(meter).value(gauge.value()).build());
+            }
+        }
+        timers.sort(Comparator.comparing(MeterStats::getTotalMs).reversed());
+        others.sort(Comparator.comparing(MeterStats::getName));
+        timers.addAll(others);
+        return timers;
+    }
+
+    private static MeterStats toStats(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        MeterStats.MeterStatsBuilder stats = base(timer)
+                .count(snapshot.count())
+                .totalMs(snapshot.total(TimeUnit.MILLISECONDS))
+                .meanMs(snapshot.mean(TimeUnit.MILLISECONDS))
+                .maxMs(snapshot.max(TimeUnit.MILLISECONDS));
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            double value = percentile.value(TimeUnit.MILLISECONDS);
+            if (percentile.percentile() == 0.5) {
+                stats.p50Ms(value);
+            } else if (percentile.percentile() == 0.9) {
+                stats.p90Ms(value);
+            } else if (percentile.percentile() == 0.99) {
+                stats.p99Ms(value);
+            }
+        }
+        return stats.build();
+    }
+
+    private static MeterStats.MeterStatsBuilder base(Meter meter) {
+        Map<String, String> tags = new LinkedHashMap<>();
+        for (Tag tag : meter.getId().getTagsAsIterable()) {
+            tags.put(tag.getKey(), tag.getValue());
+        }
+        return MeterStats.builder().name(meter.getId().getName()).tags(tags);
+    }
+}
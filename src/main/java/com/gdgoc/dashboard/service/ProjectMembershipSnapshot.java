@@ -0,0 +1,44 @@
+package com.gdgoc.dashboard.service;
+
+import com.gdgoc.dashboard.entity.Project;
+import com.gdgoc.dashboard.repository.projection.ProjectMemberKey;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Who may be assigned tasks of a project: its leader and, among the users that were asked
+ * about, its members. Loaded with one query and reused for every item of an operation
+ * within the same transaction.
+ */
+public record ProjectMembershipSnapshot(UUID projectId, UUID leaderId, Set<UUID> memberIds) {
+
+    public static ProjectMembershipSnapshot of(Project project, Collection<UUID> memberIds) {
+        UUID leaderId = project.getLeader() == null ? null : project.getLeader().getId();
+        return new ProjectMembershipSnapshot(project.getId(), leaderId, Set.copyOf(memberIds));
+    }
+
+    /**
+     * One snapshot per project, from the (project, user) pairs of a single query.
+     */
+    public static Map<UUID, ProjectMembershipSnapshot> of(Collection<Project> projects,
+            Collection<ProjectMemberKey> members) {
+        Map<UUID, Set<UUID>> memberIds = new HashMap<>();
+        for (ProjectMemberKey key : members) {
+            memberIds.computeIfAbsent(key.getProjectId(), id -> new HashSet<>()).add(key.getUserId());
+        }
+        Map<UUID, ProjectMembershipSnapshot> snapshots = new HashMap<>();
+        for (Project project : projects) {
+            snapshots.putIfAbsent(project.getId(), of(project, memberIds.getOrDefault(project.getId(), Set.of())));
+        }
+        return snapshots;
+    }
+
+    public boolean canBeAssigned(UUID userId) {
+        return memberIds.contains(userId) || userId.equals(leaderId);
+    }
+}
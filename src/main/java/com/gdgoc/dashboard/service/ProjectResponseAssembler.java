@@ -0,0 +1,67 @@
+package com.gdgoc.dashboard.service;
+
+import com.gdgoc.dashboard.dto.response.ProjectResponse;
+import com.gdgoc.dashboard.entity.Project;
+import com.gdgoc.dashboard.repository.ProjectMemberRepository;
+import com.gdgoc.dashboard.repository.TaskRepository;
+import com.gdgoc.dashboard.repository.projection.ProjectCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Builds ProjectResponse lists with a constant number of queries: one grouped
+ * count for members and one for tasks, whatever the number of projects.
+ * Callers are expected to have fetched the leaders with the projects.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectResponseAssembler {
+
+    private final ProjectMemberRepository projectMemberRepository;
+    private final TaskRepository taskRepository;
+
+    public List<ProjectResponse> toResponses(List<Project> projects) {
+        if (projects.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> projectIds = projects.stream().map(Project::getId).toList();
+        Map<UUID, Long> memberCounts = toMap(projectMemberRepository.countByProjectIds(projectIds));
+        Map<UUID, Long> taskCounts = toMap(taskRepository.countByProjectIds(projectIds));
+
+        return projects.stream()
+                .map(project -> toResponse(project,
+                        memberCounts.getOrDefault(project.getId(), 0L),
+                        taskCounts.getOrDefault(project.getId(), 0L)))
+                .collect(Collectors.toList());
+    }
+
+    public ProjectResponse toResponse(Project project) {
+        return toResponse(project,
+                projectMemberRepository.countByProjectId(project.getId()),
+                taskRepository.countByProjectId(project.getId()));
+    }
+
+    private ProjectResponse toResponse(Project project, long memberCount, long taskCount) {
+        return ProjectResponse.builder()
+                .id(project.getId())
+                .name(project.getName())
+                .description(project.getDescription())
+                .status(project.getStatus())
+                .leader(AuthService.toResponse(project.getLeader()))
+                .memberCount(memberCount)
+                .taskCount(taskCount)
+                .startDate(project.getStartDate())
+                .endDate(project.getEndDate())
+                .createdAt(project.getCreatedAt())
+                .build();
+    }
+
+    private static Map<UUID, Long> toMap(List<ProjectCount> counts) {
+        return counts.stream().collect(Collectors.toMap(ProjectCount::getProjectId, ProjectCount::getCount));
+    }
+}
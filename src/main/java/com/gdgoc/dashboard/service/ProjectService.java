@@ -1,7 +1,9 @@
 package com.gdgoc.dashboard.service;
 
 import com.gdgoc.dashboard.dto.request.CreateProjectRequest;
+import com.gdgoc.dashboard.dto.request.PageCursor;
 import com.gdgoc.dashboard.dto.request.UpdateProjectRequest;
+import com.gdgoc.dashboard.dto.response.CursorPage;
 import com.gdgoc.dashboard.dto.response.ProjectResponse;
 import com.gdgoc.dashboard.dto.response.UserResponse;
 import com.gdgoc.dashboard.entity.Project;
@@ -9,20 +11,26 @@ import com.gdgoc.dashboard.entity.ProjectMember;
 import com.gdgoc.dashboard.entity.User;
 import com.gdgoc.dashboard.enums.ProjectStatus;
 import com.gdgoc.dashboard.enums.Role;
+import com.gdgoc.dashboard.event.DomainEventBus;
+import com.gdgoc.dashboard.event.MemberAdded;
+import com.gdgoc.dashboard.event.MemberRemoved;
+import com.gdgoc.dashboard.event.ProjectCreated;
+import com.gdgoc.dashboard.event.ProjectDeleted;
+import com.gdgoc.dashboard.event.ProjectUpdated;
 import com.gdgoc.dashboard.exception.ResourceNotFoundException;
 import com.gdgoc.dashboard.exception.UnauthorizedException;
 import com.gdgoc.dashboard.repository.ProjectMemberRepository;
 import com.gdgoc.dashboard.repository.ProjectRepository;
-import com.gdgoc.dashboard.repository.TaskRepository;
 import com.gdgoc.dashboard.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -32,42 +40,33 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final ProjectMemberRepository projectMemberRepository;
     private final UserRepository userRepository;
-    private final TaskRepository taskRepository;
-
-    public List<ProjectResponse> getAllProjects() {
-        return projectRepository.findAll().stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
-    }
+    private final ContributorScoreService contributorScoreService;
+    private final DomainEventBus eventBus;
+    private final ProjectResponseAssembler projectResponseAssembler;
 
     public ProjectResponse getProjectById(UUID id) {
         Project project = findProjectOrThrow(id);
         return toResponse(project);
     }
 
-    public List<ProjectResponse> getProjectsByUser(User user) {
-        if (user.getRole() == Role.ADMIN) {
-            return getAllProjects();
-        }
-
-        // Get projects where user is leader
-        List<Project> leaderProjects = projectRepository.findByLeaderId(user.getId());
-
-        // Get projects where user is a member
-        List<UUID> memberProjectIds = projectMemberRepository.findByUserId(user.getId())
-                .stream()
-                .map(pm -> pm.getProject().getId())
-                .toList();
-
-        List<Project> memberProjects = memberProjectIds.stream()
-                .map(this::findProjectOrThrow)
-                .toList();
-
-        // Combine and deduplicate
-        return java.util.stream.Stream.concat(leaderProjects.stream(), memberProjects.stream())
-                .distinct()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+    /**
+     * One page of the projects the user leads or is a member of (all projects for admins),
+     * optionally filtered by status.
+     */
+    public CursorPage<ProjectResponse> getProjectsByUser(User user, ProjectStatus status, String cursor,
+            Integer limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        PageCursor after = PageCursor.decode(cursor);
+        LocalDateTime afterCreatedAt = after == null ? null : after.createdAt();
+        UUID afterId = after == null ? null : after.id();
+
+        List<Project> rows = user.getRole() == Role.ADMIN
+                ? projectRepository.findAllWithLeader(status, afterCreatedAt, afterId, Limit.of(pageSize + 1))
+                : projectRepository.findByLeaderOrMember(user.getId(), status, afterCreatedAt, afterId,
+                        Limit.of(pageSize + 1));
+        return CursorPage.fromRows(rows, pageSize,
+                project -> new PageCursor(project.getCreatedAt(), project.getId()),
+                projectResponseAssembler::toResponses);
     }
 
     @Transactional
@@ -111,6 +110,7 @@ public class ProjectService {
                 log.info("Leader added to project members successfully.");
             }
 
+            eventBus.publish(new ProjectCreated(ProjectSnapshot.of(savedProject)));
             return toResponse(savedProject);
         } catch (Exception e) {
             log.error("CRITICAL ERROR during project creation: {}", e.getMessage(), e);
@@ -122,6 +122,7 @@ public class ProjectService {
     public ProjectResponse updateProject(UUID id, UpdateProjectRequest request, User currentUser) {
         Project project = findProjectOrThrow(id);
         validateProjectAccess(project, currentUser);
+        ProjectSnapshot before = ProjectSnapshot.of(project);
 
         if (request.getName() != null) {
             project.setName(request.getName());
@@ -145,7 +146,9 @@ public class ProjectService {
             project.setLeader(leader);
         }
 
-        return toResponse(projectRepository.save(project));
+        Project saved = projectRepository.save(project);
+        eventBus.publish(new ProjectUpdated(before, ProjectSnapshot.of(saved)));
+        return toResponse(saved);
     }
 
     @Transactional
@@ -154,7 +157,11 @@ public class ProjectService {
         if (currentUser.getRole() != Role.ADMIN) {
             throw new UnauthorizedException("Only admins can delete projects");
         }
+        // Tasks cascade with the project, so take them off the contributor scores first
+        contributorScoreService.onProjectDeleted(id);
+        ProjectSnapshot before = ProjectSnapshot.of(project);
         projectRepository.delete(project);
+        eventBus.publish(new ProjectDeleted(before));
     }
 
     @Transactional
@@ -174,6 +181,7 @@ public class ProjectService {
                 .user(user)
                 .build();
         projectMemberRepository.save(member);
+        eventBus.publish(new MemberAdded(projectId, userId));
 
         return toResponse(projectRepository.findById(projectId).orElseThrow());
     }
@@ -187,6 +195,7 @@ public class ProjectService {
                 .orElseThrow(() -> new ResourceNotFoundException("Member not found in project"));
 
         projectMemberRepository.delete(member);
+        eventBus.publish(new MemberRemoved(projectId, userId));
     }
 
     // --- Helpers ---
@@ -205,20 +214,6 @@ public class ProjectService {
     }
 
     private ProjectResponse toResponse(Project project) {
-        long memberCount = projectMemberRepository.countByProjectId(project.getId());
-        long taskCount = taskRepository.countByProjectId(project.getId());
-
-        return ProjectResponse.builder()
-                .id(project.getId())
-                .name(project.getName())
-                .description(project.getDescription())
-                .status(project.getStatus())
-                .leader(AuthService.toResponse(project.getLeader()))
-                .memberCount(memberCount)
-                .taskCount(taskCount)
-                .startDate(project.getStartDate())
-                .endDate(project.getEndDate())
-                .createdAt(project.getCreatedAt())
-                .build();
+        return projectResponseAssembler.toResponse(project);
     }
 }
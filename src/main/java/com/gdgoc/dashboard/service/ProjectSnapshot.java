@@ -0,0 +1,20 @@
+package com.gdgoc.dashboard.service;
+
+import com.gdgoc.dashboard.entity.Project;
+import com.gdgoc.dashboard.enums.ProjectStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Immutable copy of the project fields carried by project events.
+ */
+public record ProjectSnapshot(UUID projectId, String name, ProjectStatus status, UUID leaderId,
+        LocalDate startDate, LocalDate endDate) {
+
+    public static ProjectSnapshot of(Project project) {
+        UUID leaderId = project.getLeader() == null ? null : project.getLeader().getId();
+        return new ProjectSnapshot(project.getId(), project.getName(), project.getStatus(), leaderId,
+                project.getStartDate(), project.getEndDate());
+    }
+}
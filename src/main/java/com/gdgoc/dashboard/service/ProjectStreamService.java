@@ -0,0 +1,413 @@
+package com.gdgoc.dashboard.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gdgoc.dashboard.dto.response.ProjectCounters;
+import com.gdgoc.dashboard.dto.response.TaskDelta;
+import com.gdgoc.dashboard.entity.Project;
+import com.gdgoc.dashboard.entity.User;
+import com.gdgoc.dashboard.enums.Role;
+import com.gdgoc.dashboard.event.DomainEvent;
+import com.gdgoc.dashboard.event.DomainEventSubscriber;
+import com.gdgoc.dashboard.event.MemberAdded;
+import com.gdgoc.dashboard.event.MemberRemoved;
+import com.gdgoc.dashboard.event.ProjectCreated;
+import com.gdgoc.dashboard.event.ProjectDeleted;
+import com.gdgoc.dashboard.event.ProjectUpdated;
+import com.gdgoc.dashboard.event.TaskDeleted;
+import com.gdgoc.dashboard.event.TaskEvent;
+import com.gdgoc.dashboard.event.UserEvent;
+import com.gdgoc.dashboard.event.UserRoleChanged;
+import com.gdgoc.dashboard.exception.ResourceNotFoundException;
+import com.gdgoc.dashboard.exception.UnauthorizedException;
+import com.gdgoc.dashboard.repository.DashboardStatsRepository;
+import com.gdgoc.dashboard.repository.ProjectMemberRepository;
+import com.gdgoc.dashboard.repository.ProjectRepository;
+import com.gdgoc.dashboard.repository.UserRepository;
+import com.gdgoc.dashboard.repository.projection.ProjectTaskCounters;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Live project board over Server-Sent Events, fed by committed domain events.
+ *
+ * Connections are async servlet requests, so an idle subscriber holds no thread. Each
+ * subscriber has a small bounded queue written out by a shared writer pool; a client that
+ * falls behind far enough to fill its queue is disconnected (it reconnects and reloads)
+ * instead of buffering without limit. Every payload is serialized once per batch and the
+ * same bytes go to all subscribers of the project.
+ *
+ * Access is checked when a stream opens and again whenever it may have been lost: a member
+ * removed, a leader replaced or an admin demoted. Streams whose user no longer passes the
+ * check are ended.
+ */
+@Service
+@Slf4j
+public class ProjectStreamService implements DomainEventSubscriber {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final UserRepository userRepository;
+    private final DashboardStatsRepository dashboardStatsRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final int queueCapacity;
+    private final int maxTaskDeltas;
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService writers;
+    private final ScheduledExecutorService heartbeats;
+
+    public ProjectStreamService(
+            ProjectRepository projectRepository,
+            ProjectMemberRepository projectMemberRepository,
+            UserRepository userRepository,
+            DashboardStatsRepository dashboardStatsRepository,
+            ObjectMapper objectMapper,
+            @Value("${app.stream.timeout:30m}") Duration timeout,
+            @Value("${app.stream.heartbeat:25s}") Duration heartbeat,
+            @Value("${app.stream.queue-capacity:256}") int queueCapacity,
+            @Value("${app.stream.writer-threads:8}") int writerThreads,
+            @Value("${app.stream.max-task-deltas:100}") int maxTaskDeltas) {
+        this.projectRepository = projectRepository;
+        this.projectMemberRepository = projectMemberRepository;
+        this.userRepository = userRepository;
+        this.dashboardStatsRepository = dashboardStatsRepository;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.queueCapacity = queueCapacity;
+        this.maxTaskDeltas = maxTaskDeltas;
+        // Platform threads even in the virtual-thread mode: SseEmitter.send is synchronized, so a
+        // write blocked on a slow client would pin the carrier thread
+        AtomicInteger threadCount = new AtomicInteger();
+        this.writers = Executors.newFixedThreadPool(writerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sse-writer-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long heartbeatMillis = heartbeat.toMillis();
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeats, heartbeatMillis, heartbeatMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens a stream on the project for one of its members, its leader or an admin.
+     * The first event is the current "counters".
+     */
+    public SseEmitter subscribe(UUID projectId, User user) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
+        if (!canFollow(project, user.getId(), user.getRole())) {
+            throw new UnauthorizedException("Only project members can follow this project");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(projectId, user.getId(), emitter);
+        emitter.onCompletion(subscriber::closed);
+        emitter.onError(error -> subscriber.closed());
+        subscribers.compute(projectId, (id, set) -> {
+            Set<Subscriber> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+
+        subscriber.offer(event("counters", loadCounters(projectId)));
+        return emitter;
+    }
+
+    // --- Domain events ---
+
+    @Override
+    public void onEvents(List<DomainEvent> batch) {
+        // Bulk edits: past max-task-deltas changes in one batch a project gets a single "resync"
+        // instead of a delta per task
+        Map<UUID, Integer> taskChanges = new HashMap<>();
+        for (DomainEvent event : batch) {
+            if (event instanceof TaskEvent task && isWatched(task.projectId())) {
+                taskChanges.merge(task.projectId(), 1, Integer::sum);
+            }
+        }
+        Set<UUID> changedProjects = new LinkedHashSet<>(taskChanges.keySet());
+        taskChanges.forEach((projectId, count) -> {
+            if (count > maxTaskDeltas) {
+                broadcast(projectId, "resync", Map.of("projectId", projectId));
+            }
+        });
+
+        for (DomainEvent event : batch) {
+            switch (event) {
+                case TaskEvent task -> {
+                    if (taskChanges.getOrDefault(task.projectId(), 0) <= maxTaskDeltas && isWatched(task.projectId())) {
+                        broadcast(task.projectId(), "task", toDelta(task));
+                    }
+                }
+                case ProjectUpdated updated -> {
+                    broadcast(updated.projectId(), "project-updated", updated.after());
+                    UUID oldLeader = updated.before().leaderId();
+                    if (oldLeader != null && !oldLeader.equals(updated.after().leaderId())) {
+                        revalidate(updated.projectId(), oldLeader);
+                    }
+                }
+                case ProjectDeleted deleted -> {
+                    broadcast(deleted.projectId(), "project-deleted", deleted.before());
+                    endAll(deleted.projectId(), null);
+                    changedProjects.remove(deleted.projectId());
+                }
+                case MemberAdded added -> broadcast(added.projectId(), "member-added", added);
+                case MemberRemoved removed -> {
+                    broadcast(removed.projectId(), "member-removed", removed);
+                    revalidate(removed.projectId(), removed.userId());
+                }
+                case ProjectCreated created -> {
+                }
+                case UserRoleChanged changed -> {
+                    if (changed.before() == Role.ADMIN) {
+                        revalidateUser(changed.userId());
+                    }
+                }
+                case UserEvent user -> {
+                }
+            }
+        }
+
+        // One counters query per changed project per batch, however many tasks changed
+        for (UUID projectId : changedProjects) {
+            if (isWatched(projectId)) {
+                broadcast(projectId, "counters", loadCounters(projectId));
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    public int watchedProjectCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(Subscriber::end));
+        writers.shutdown();
+    }
+
+    // --- Helpers ---
+
+    // Admins, the project's leader and its members may follow a project
+    private boolean canFollow(Project project, UUID userId, Role role) {
+        if (role == Role.ADMIN)
+            return true;
+        if (project.getLeader() != null && project.getLeader().getId().equals(userId))
+            return true;
+        return projectMemberRepository.existsByProjectIdAndUserId(project.getId(), userId);
+    }
+
+    // Ends the user's streams on the project if they may no longer follow it
+    private void revalidate(UUID projectId, UUID userId) {
+        if (!isFollowing(projectId, userId)) {
+            return;
+        }
+        Project project = projectRepository.findById(projectId).orElse(null);
+        Role role = userRepository.findById(userId).map(User::getRole).orElse(null);
+        if (project == null || role == null || !canFollow(project, userId, role)) {
+            endAll(projectId, userId);
+        }
+    }
+
+    // Re-checks every project the user has a stream on, e.g. after losing the admin role
+    private void revalidateUser(UUID userId) {
+        subscribers.keySet().forEach(projectId -> revalidate(projectId, userId));
+    }
+
+    private boolean isFollowing(UUID projectId, UUID userId) {
+        Set<Subscriber> targets = subscribers.get(projectId);
+        return targets != null && targets.stream().anyMatch(subscriber -> subscriber.userId.equals(userId));
+    }
+
+    private boolean isWatched(UUID projectId) {
+        return subscribers.containsKey(projectId);
+    }
+
+    private void broadcast(UUID projectId, String name, Object payload) {
+        Set<Subscriber> targets = subscribers.get(projectId);
+        if (targets != null) {
+            Set<DataWithMediaType> event = event(name, payload);
+            targets.forEach(subscriber -> subscriber.offer(event));
+        }
+    }
+
+    // Ends the streams of one user on the project, or of everyone when userId is null
+    private void endAll(UUID projectId, UUID userId) {
+        Set<Subscriber> targets = subscribers.get(projectId);
+        if (targets != null) {
+            targets.stream()
+                    .filter(subscriber -> userId == null || subscriber.userId.equals(userId))
+                    .forEach(Subscriber::end);
+        }
+    }
+
+    private void sendHeartbeats() {
+        Set<DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.offer(ping)));
+    }
+
+    private void unregister(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.projectId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private ProjectCounters loadCounters(UUID projectId) {
+        ProjectTaskCounters counters = dashboardStatsRepository.getProjectTaskCounters(projectId, LocalDate.now());
+        return ProjectCounters.builder()
+                .projectId(projectId)
+                .totalTasks(counters.getTotalTasks())
+                .todoTasks(counters.getTodoTasks())
+                .inProgressTasks(counters.getInProgressTasks())
+                .completedTasks(counters.getCompletedTasks())
+                .overdueTasks(counters.getOverdueTasks())
+                .build();
+    }
+
+    private static TaskDelta toDelta(TaskEvent event) {
+        String type = event.getClass().getSimpleName();
+        if (event instanceof TaskDeleted) {
+            return TaskDelta.builder().type(type).taskId(event.taskId()).build();
+        }
+        TaskSnapshot task = event.after();
+        return TaskDelta.builder()
+                .type(type)
+                .taskId(task.taskId())
+                .title(task.title())
+                .status(task.status())
+                .priority(task.priority())
+                .deadline(task.deadline())
+                .assigneeIds(task.assigneeIds())
+                .build();
+    }
+
+    // Built once and shared: the data is pre-serialized JSON, written as-is to every emitter
+    private Set<DataWithMediaType> event(String name, Object payload) {
+        try {
+            return SseEmitter.event().name(name).data(objectMapper.writeValueAsString(payload)).build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + name + " event", e);
+        }
+    }
+
+    /**
+     * One open stream. Events are queued by publishers and written by at most one writer task
+     * at a time; ending a stream lets queued events go out first, dropping it does not.
+     */
+    private final class Subscriber {
+
+        private final UUID projectId;
+        private final UUID userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        // Stop writing and complete the emitter
+        private volatile boolean dropped;
+        // Complete the emitter once the queue is written out
+        private volatile boolean ending;
+        // The emitter is done; nothing left to do
+        private volatile boolean completed;
+
+        Subscriber(UUID projectId, UUID userId, SseEmitter emitter) {
+            this.projectId = projectId;
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        void offer(Set<DataWithMediaType> event) {
+            if (ending || dropped || completed) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                log.debug("Dropping slow stream subscriber {} on project {}", userId, projectId);
+                dropped = true;
+                queue.clear();
+                unregister(this);
+            }
+            schedule();
+        }
+
+        void end() {
+            ending = true;
+            unregister(this);
+            schedule();
+        }
+
+        // Emitter completed, timed out or failed
+        void closed() {
+            completed = true;
+            queue.clear();
+            unregister(this);
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    writers.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // Shutting down
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> event;
+                while (!dropped && !completed && (event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+                if ((dropped || ending) && !completed) {
+                    completed = true;
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the request already completed
+                closed();
+            } finally {
+                scheduled.set(false);
+            }
+            boolean pending = !queue.isEmpty() || dropped || ending;
+            if (pending && !completed) {
+                schedule();
+            }
+        }
+    }
+}
@@ -1,26 +1,52 @@
 package com.gdgoc.dashboard.service;
 
+import com.gdgoc.dashboard.dto.request.BulkTaskAssigneesRequest;
+import com.gdgoc.dashboard.dto.request.BulkTaskStatusRequest;
 import com.gdgoc.dashboard.dto.request.CreateTaskRequest;
+import com.gdgoc.dashboard.dto.request.PageCursor;
+import com.gdgoc.dashboard.dto.request.TaskFilter;
 import com.gdgoc.dashboard.dto.request.UpdateTaskRequest;
+import com.gdgoc.dashboard.dto.response.BulkItemResult;
+import com.gdgoc.dashboard.dto.response.BulkTaskResponse;
+import com.gdgoc.dashboard.dto.response.CursorPage;
 import com.gdgoc.dashboard.dto.response.TaskResponse;
 import com.gdgoc.dashboard.entity.Project;
 import com.gdgoc.dashboard.entity.Task;
 import com.gdgoc.dashboard.entity.User;
 import com.gdgoc.dashboard.enums.Role;
 import com.gdgoc.dashboard.enums.TaskStatus;
+import com.gdgoc.dashboard.event.DomainEventBus;
+import com.gdgoc.dashboard.event.TaskCreated;
+import com.gdgoc.dashboard.event.TaskDeleted;
+import com.gdgoc.dashboard.event.TaskEvent;
 import com.gdgoc.dashboard.exception.ResourceNotFoundException;
 import com.gdgoc.dashboard.exception.UnauthorizedException;
 import com.gdgoc.dashboard.repository.ProjectMemberRepository;
 import com.gdgoc.dashboard.repository.ProjectRepository;
 import com.gdgoc.dashboard.repository.TaskRepository;
 import com.gdgoc.dashboard.repository.UserRepository;
+import com.gdgoc.dashboard.repository.specification.KeysetSpecifications;
+import com.gdgoc.dashboard.repository.specification.TaskSpecifications;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -30,19 +56,27 @@ public class TaskService {
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final ProjectMemberRepository projectMemberRepository;
+    private final ContributorScoreService contributorScoreService;
+    private final DomainEventBus eventBus;
 
-    public List<TaskResponse> getTasksByProject(UUID projectId) {
-        return taskRepository.findByProjectId(projectId).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+    @Value("${app.tasks.bulk.max-items:5000}")
+    private int bulkMaxItems;
+
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> getTasksByProject(UUID projectId, TaskFilter filter, String cursor, Integer limit,
+            String order) {
+        return findPage(TaskSpecifications.inProject(projectId).and(TaskSpecifications.matching(filter)),
+                cursor, limit, order);
     }
 
-    public List<TaskResponse> getTasksByUser(UUID userId) {
-        return taskRepository.findByAssigneesId(userId).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> getTasksByUser(UUID userId, TaskFilter filter, String cursor, Integer limit,
+            String order) {
+        return findPage(TaskSpecifications.assignedTo(userId).and(TaskSpecifications.matching(filter)),
+                cursor, limit, order);
     }
 
+    @Transactional(readOnly = true)
     public TaskResponse getTaskById(UUID id) {
         Task task = findTaskOrThrow(id);
         return toResponse(task);
@@ -65,27 +99,19 @@ public class TaskService {
                 .build();
 
         if (request.getAssigneeIds() != null && !request.getAssigneeIds().isEmpty()) {
-            List<User> assignees = userRepository.findAllById(request.getAssigneeIds());
-            if (assignees.size() != request.getAssigneeIds().size()) {
-                throw new ResourceNotFoundException("One or more assignees not found");
-            }
-
-            for (User assignee : assignees) {
-                if (!projectMemberRepository.existsByProjectIdAndUserId(project.getId(), assignee.getId())
-                        && (project.getLeader() == null || !project.getLeader().getId().equals(assignee.getId()))) {
-                    throw new IllegalArgumentException("Assignee must be a member or leader of the project");
-                }
-            }
-            task.setAssignees(assignees);
+            task.setAssignees(resolveAssignees(project, request.getAssigneeIds()));
         }
 
-        return toResponse(taskRepository.save(task));
+        Task saved = taskRepository.save(task);
+        onTaskChanged(null, TaskSnapshot.of(saved));
+        return toResponse(saved);
     }
 
     @Transactional
     public TaskResponse updateTask(UUID id, UpdateTaskRequest request, User currentUser) {
         Task task = findTaskOrThrow(id);
         validateTaskManageAccess(task.getProject(), currentUser);
+        TaskSnapshot before = TaskSnapshot.of(task);
 
         if (request.getTitle() != null) {
             task.setTitle(request.getTitle());
@@ -103,22 +129,12 @@ public class TaskService {
             task.setDeadline(request.getDeadline());
         }
         if (request.getAssigneeIds() != null) {
-            List<User> assignees = userRepository.findAllById(request.getAssigneeIds());
-            if (assignees.size() != request.getAssigneeIds().size()) {
-                throw new ResourceNotFoundException("One or more assignees not found");
-            }
-
-            for (User assignee : assignees) {
-                if (!projectMemberRepository.existsByProjectIdAndUserId(task.getProject().getId(), assignee.getId())
-                        && (task.getProject().getLeader() == null
-                                || !task.getProject().getLeader().getId().equals(assignee.getId()))) {
-                    throw new IllegalArgumentException("Assignee must be a member or leader of the project");
-                }
-            }
-            task.setAssignees(assignees);
+            task.setAssignees(resolveAssignees(task.getProject(), request.getAssigneeIds()));
         }
 
-        return toResponse(taskRepository.save(task));
+        Task saved = taskRepository.save(task);
+        onTaskChanged(before, TaskSnapshot.of(saved));
+        return toResponse(saved);
     }
 
     @Transactional
@@ -136,30 +152,331 @@ public class TaskService {
             throw new UnauthorizedException("You can only update your own task status");
         }
 
+        TaskSnapshot before = TaskSnapshot.of(task);
         task.setStatus(newStatus);
-        return toResponse(taskRepository.save(task));
+        Task saved = taskRepository.save(task);
+        onTaskChanged(before, TaskSnapshot.of(saved));
+        return toResponse(saved);
     }
 
     @Transactional
     public void deleteTask(UUID id, User currentUser) {
         Task task = findTaskOrThrow(id);
         validateTaskManageAccess(task.getProject(), currentUser);
+        TaskSnapshot before = TaskSnapshot.of(task);
         taskRepository.delete(task);
+        onTaskChanged(before, null);
+    }
+
+    // --- Bulk operations ---
+    // One transaction per request. Access is checked once per project, assignee membership with
+    // one query, and the writes are flushed in JDBC batches (hibernate.jdbc.batch_size). Items that
+    // fail validation are reported in the response and skipped; the others are applied.
+
+    @Transactional
+    public BulkTaskResponse createTasks(UUID projectId, List<CreateTaskRequest> requests, User currentUser) {
+        validateBulkSize(requests);
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
+        validateTaskManageAccess(project, currentUser);
+
+        Map<UUID, User> users = loadUsers(requests.stream()
+                .filter(Objects::nonNull)
+                .map(CreateTaskRequest::getAssigneeIds));
+        ProjectMembershipSnapshot membership = loadMembership(project, users.keySet());
+
+        List<BulkItemResult> results = new ArrayList<>(requests.size());
+        List<TaskSnapshot> created = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            CreateTaskRequest request = requests.get(i);
+            try {
+                if (request == null || request.getTitle() == null || request.getTitle().isBlank()) {
+                    throw new IllegalArgumentException("Task title is required");
+                }
+                if (request.getPriority() == null) {
+                    throw new IllegalArgumentException("Priority is required");
+                }
+                Task task = Task.builder()
+                        .title(request.getTitle())
+                        .description(request.getDescription())
+                        .priority(request.getPriority())
+                        .deadline(request.getDeadline())
+                        .status(TaskStatus.TODO)
+                        .project(project)
+                        .assignees(resolveAssignees(request.getAssigneeIds(), users, membership))
+                        .build();
+                // Persisting assigns the id; the insert waits for the batched flush
+                taskRepository.save(task);
+                created.add(TaskSnapshot.of(task));
+                results.add(success(i, task.getId(), HttpStatus.CREATED));
+            } catch (ResourceNotFoundException | UnauthorizedException | IllegalArgumentException e) {
+                results.add(failure(i, null, e));
+            }
+        }
+
+        onTasksChanged(List.of(), created, created.stream().<TaskEvent>map(TaskCreated::new).toList());
+        return BulkTaskResponse.of(results);
+    }
+
+    @Transactional
+    public BulkTaskResponse updateTaskStatuses(List<BulkTaskStatusRequest.Item> items, User currentUser) {
+        validateBulkSize(items);
+        Map<UUID, Task> tasks = loadTasks(items.stream().filter(Objects::nonNull)
+                .map(BulkTaskStatusRequest.Item::getTaskId));
+        Map<UUID, Boolean> canManage = new HashMap<>();
+
+        List<BulkItemResult> results = new ArrayList<>(items.size());
+        List<TaskSnapshot> before = new ArrayList<>();
+        List<TaskSnapshot> after = new ArrayList<>();
+        List<TaskEvent> events = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            BulkTaskStatusRequest.Item item = items.get(i);
+            UUID taskId = item == null ? null : item.getTaskId();
+            try {
+                if (item == null || item.getStatus() == null) {
+                    throw new IllegalArgumentException("Status is required");
+                }
+                Task task = requireTask(tasks, taskId);
+                // Same rule as updateTaskStatus: assignees, the project leader and admins
+                boolean isAssignee = task.getAssignees() != null
+                        && task.getAssignees().stream().anyMatch(u -> u.getId().equals(currentUser.getId()));
+                if (!isAssignee && !canManage.computeIfAbsent(task.getProject().getId(),
+                        id -> canManageTasks(task.getProject(), currentUser))) {
+                    throw new UnauthorizedException("You can only update your own task status");
+                }
+
+                TaskSnapshot previous = TaskSnapshot.of(task);
+                task.setStatus(item.getStatus());
+                TaskSnapshot current = TaskSnapshot.of(task);
+                before.add(previous);
+                after.add(current);
+                events.addAll(TaskEvent.between(previous, current));
+                results.add(success(i, taskId, HttpStatus.OK));
+            } catch (ResourceNotFoundException | UnauthorizedException | IllegalArgumentException e) {
+                results.add(failure(i, taskId, e));
+            }
+        }
+
+        onTasksChanged(before, after, events);
+        return BulkTaskResponse.of(results);
+    }
+
+    @Transactional
+    public BulkTaskResponse reassignTasks(List<BulkTaskAssigneesRequest.Item> items, User currentUser) {
+        validateBulkSize(items);
+        Map<UUID, Task> tasks = loadTasks(items.stream().filter(Objects::nonNull)
+                .map(BulkTaskAssigneesRequest.Item::getTaskId));
+        Map<UUID, User> users = loadUsers(items.stream()
+                .filter(Objects::nonNull)
+                .map(BulkTaskAssigneesRequest.Item::getAssigneeIds));
+        Map<UUID, ProjectMembershipSnapshot> memberships = loadMemberships(
+                tasks.values().stream().map(Task::getProject).toList(), users.keySet());
+        Map<UUID, Boolean> canManage = new HashMap<>();
+
+        List<BulkItemResult> results = new ArrayList<>(items.size());
+        List<TaskSnapshot> before = new ArrayList<>();
+        List<TaskSnapshot> after = new ArrayList<>();
+        List<TaskEvent> events = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            BulkTaskAssigneesRequest.Item item = items.get(i);
+            UUID taskId = item == null ? null : item.getTaskId();
+            try {
+                if (item == null || item.getAssigneeIds() == null) {
+                    throw new IllegalArgumentException("Assignee ids are required");
+                }
+                Task task = requireTask(tasks, taskId);
+                validateTaskManageAccess(task.getProject(), currentUser, canManage);
+
+                TaskSnapshot previous = TaskSnapshot.of(task);
+                task.setAssignees(resolveAssignees(item.getAssigneeIds(), users,
+                        memberships.get(task.getProject().getId())));
+                TaskSnapshot current = TaskSnapshot.of(task);
+                before.add(previous);
+                after.add(current);
+                events.addAll(TaskEvent.between(previous, current));
+                results.add(success(i, taskId, HttpStatus.OK));
+            } catch (ResourceNotFoundException | UnauthorizedException | IllegalArgumentException e) {
+                results.add(failure(i, taskId, e));
+            }
+        }
+
+        onTasksChanged(before, after, events);
+        return BulkTaskResponse.of(results);
+    }
+
+    @Transactional
+    public BulkTaskResponse deleteTasks(List<UUID> taskIds, User currentUser) {
+        validateBulkSize(taskIds);
+        Map<UUID, Task> tasks = loadTasks(taskIds.stream());
+        Map<UUID, Boolean> canManage = new HashMap<>();
+
+        List<BulkItemResult> results = new ArrayList<>(taskIds.size());
+        List<Task> deleted = new ArrayList<>();
+        List<TaskSnapshot> before = new ArrayList<>();
+        for (int i = 0; i < taskIds.size(); i++) {
+            UUID taskId = taskIds.get(i);
+            try {
+                Task task = requireTask(tasks, taskId);
+                validateTaskManageAccess(task.getProject(), currentUser, canManage);
+                // A repeated id is not found the second time
+                tasks.remove(taskId);
+                deleted.add(task);
+                before.add(TaskSnapshot.of(task));
+                results.add(success(i, taskId, HttpStatus.NO_CONTENT));
+            } catch (ResourceNotFoundException | UnauthorizedException | IllegalArgumentException e) {
+                results.add(failure(i, taskId, e));
+            }
+        }
+
+        taskRepository.deleteAll(deleted);
+        onTasksChanged(before, List.of(), before.stream().<TaskEvent>map(TaskDeleted::new).toList());
+        return BulkTaskResponse.of(results);
     }
 
     // --- Helpers ---
 
+    // Contributor scores are updated in the same transaction; event subscribers (dashboard cache)
+    // react once it commits
+    private void onTaskChanged(TaskSnapshot before, TaskSnapshot after) {
+        contributorScoreService.onTaskChanged(before, after);
+        if (before == null) {
+            eventBus.publish(new TaskCreated(after));
+        } else if (after == null) {
+            eventBus.publish(new TaskDeleted(before));
+        } else {
+            eventBus.publishAll(TaskEvent.between(before, after));
+        }
+    }
+
+    private void onTasksChanged(List<TaskSnapshot> before, List<TaskSnapshot> after, List<TaskEvent> events) {
+        contributorScoreService.onTasksChanged(before, after);
+        eventBus.publishAll(events);
+    }
+
+    private void validateBulkSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("At least one item is required");
+        }
+        if (items.size() > bulkMaxItems) {
+            throw new IllegalArgumentException("At most " + bulkMaxItems + " items are allowed per request");
+        }
+    }
+
+    private Map<UUID, Task> loadTasks(Stream<UUID> ids) {
+        Set<UUID> distinct = ids.filter(Objects::nonNull).collect(Collectors.toSet());
+        if (distinct.isEmpty()) {
+            return new HashMap<>();
+        }
+        return taskRepository.findWithAssigneesByIdIn(distinct).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity(), (a, b) -> a, HashMap::new));
+    }
+
+    private Task requireTask(Map<UUID, Task> tasks, UUID id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Task id is required");
+        }
+        Task task = tasks.get(id);
+        if (task == null) {
+            throw new ResourceNotFoundException("Task not found with id: " + id);
+        }
+        return task;
+    }
+
+    private Map<UUID, User> loadUsers(Stream<List<UUID>> idLists) {
+        Set<UUID> ids = idLists.filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    // Create and update: the assignees' users and the project membership, one query each
+    private List<User> resolveAssignees(Project project, List<UUID> assigneeIds) {
+        Map<UUID, User> users = loadUsers(Stream.of(assigneeIds));
+        return resolveAssignees(assigneeIds, users, loadMembership(project, users.keySet()));
+    }
+
+    private ProjectMembershipSnapshot loadMembership(Project project, Collection<UUID> userIds) {
+        return ProjectMembershipSnapshot.of(project, userIds.isEmpty() ? Set.of()
+                : projectMemberRepository.findMemberIdsAmong(project.getId(), userIds));
+    }
+
+    private Map<UUID, ProjectMembershipSnapshot> loadMemberships(Collection<Project> projects,
+            Collection<UUID> userIds) {
+        Set<UUID> projectIds = projects.stream().map(Project::getId).collect(Collectors.toSet());
+        return ProjectMembershipSnapshot.of(projects, projectIds.isEmpty() || userIds.isEmpty() ? List.of()
+                : projectMemberRepository.findMemberKeys(projectIds, userIds));
+    }
+
+    private List<User> resolveAssignees(List<UUID> assigneeIds, Map<UUID, User> users,
+            ProjectMembershipSnapshot membership) {
+        if (assigneeIds == null || assigneeIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Set<UUID> ids = new LinkedHashSet<>(assigneeIds);
+        if (ids.contains(null) || !users.keySet().containsAll(ids)) {
+            throw new ResourceNotFoundException("One or more assignees not found");
+        }
+        List<User> assignees = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            if (!membership.canBeAssigned(id)) {
+                throw new IllegalArgumentException("Assignee must be a member or leader of the project");
+            }
+            assignees.add(users.get(id));
+        }
+        return assignees;
+    }
+
+    private static BulkItemResult success(int index, UUID taskId, HttpStatus status) {
+        return BulkItemResult.builder().index(index).taskId(taskId).status(status.value()).build();
+    }
+
+    // Same status codes as GlobalExceptionHandler gives the single-item endpoints
+    private static BulkItemResult failure(int index, UUID taskId, RuntimeException e) {
+        HttpStatus status = e instanceof ResourceNotFoundException ? HttpStatus.NOT_FOUND
+                : e instanceof UnauthorizedException ? HttpStatus.FORBIDDEN
+                : HttpStatus.BAD_REQUEST;
+        return BulkItemResult.builder().index(index).taskId(taskId).status(status.value()).error(e.getMessage())
+                .build();
+    }
+
+    private CursorPage<TaskResponse> findPage(Specification<Task> spec, String cursor, Integer limit,
+            String order) {
+        int pageSize = CursorPage.clampLimit(limit);
+        // fromString ignores case and rejects anything but asc/desc with IllegalArgumentException
+        Sort.Direction direction = order == null ? Sort.Direction.ASC : Sort.Direction.fromString(order);
+        List<Task> rows = taskRepository.findBy(
+                spec.and(KeysetSpecifications.after(PageCursor.decode(cursor), direction)),
+                query -> query.sortBy(KeysetSpecifications.order(direction)).limit(pageSize + 1).all());
+        return CursorPage.fromRows(rows, pageSize,
+                task -> new PageCursor(task.getCreatedAt(), task.getId()),
+                page -> page.stream().map(this::toResponse).collect(Collectors.toList()));
+    }
+
     private Task findTaskOrThrow(UUID id) {
-        return taskRepository.findById(id)
+        return taskRepository.findWithAssigneesById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
     }
 
     private void validateTaskManageAccess(Project project, User user) {
+        if (!canManageTasks(project, user))
+            throw new UnauthorizedException("Only project leaders and admins can manage tasks");
+    }
+
+    // Bulk operations: the answer is remembered per project
+    private void validateTaskManageAccess(Project project, User user, Map<UUID, Boolean> canManage) {
+        if (!canManage.computeIfAbsent(project.getId(), id -> canManageTasks(project, user)))
+            throw new UnauthorizedException("Only project leaders and admins can manage tasks");
+    }
+
+    private boolean canManageTasks(Project project, User user) {
         if (user.getRole() == Role.ADMIN)
-            return;
-        if (project.getLeader() != null && project.getLeader().getId().equals(user.getId()))
-            return;
-        throw new UnauthorizedException("Only project leaders and admins can manage tasks");
+            return true;
+        return project.getLeader() != null && project.getLeader().getId().equals(user.getId());
     }
 
     private TaskResponse toResponse(Task task) {
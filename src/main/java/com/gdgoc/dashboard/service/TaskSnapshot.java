@@ -0,0 +1,36 @@
+package com.gdgoc.dashboard.service;
+
+import com.gdgoc.dashboard.entity.Task;
+import com.gdgoc.dashboard.entity.User;
+import com.gdgoc.dashboard.enums.TaskPriority;
+import com.gdgoc.dashboard.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable copy of the task fields that derived read models depend on.
+ * Taken before and after a mutation so consumers can apply the difference.
+ */
+public record TaskSnapshot(UUID taskId, UUID projectId, String title, TaskStatus status, TaskPriority priority,
+        LocalDate deadline, Set<UUID> assigneeIds) {
+
+    public static TaskSnapshot of(Task task) {
+        Set<UUID> assigneeIds = task.getAssignees() == null ? Set.of()
+                : task.getAssignees().stream()
+                        .map(User::getId)
+                        .collect(Collectors.toUnmodifiableSet());
+        return new TaskSnapshot(task.getId(), task.getProject().getId(), task.getTitle(), task.getStatus(),
+                task.getPriority(), task.getDeadline(), assigneeIds);
+    }
+
+    public boolean isCompleted() {
+        return status == TaskStatus.DONE;
+    }
+
+    public boolean isOverdue(LocalDate asOf) {
+        return deadline != null && deadline.isBefore(asOf) && status != TaskStatus.DONE;
+    }
+}
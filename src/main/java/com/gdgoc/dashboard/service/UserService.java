@@ -1,12 +1,19 @@
 package com.gdgoc.dashboard.service;
 
+import com.gdgoc.dashboard.dto.request.PageCursor;
+import com.gdgoc.dashboard.dto.response.CursorPage;
 import com.gdgoc.dashboard.dto.response.UserResponse;
 import com.gdgoc.dashboard.entity.User;
 import com.gdgoc.dashboard.enums.Role;
+import com.gdgoc.dashboard.event.DomainEventBus;
+import com.gdgoc.dashboard.event.UserProfileChanged;
+import com.gdgoc.dashboard.event.UserRoleChanged;
 import com.gdgoc.dashboard.exception.ResourceNotFoundException;
 import com.gdgoc.dashboard.exception.UnauthorizedException;
 import com.gdgoc.dashboard.repository.UserRepository;
+import com.gdgoc.dashboard.security.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,11 +26,19 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final VerifiedTokenCache tokenCache;
+    private final DomainEventBus eventBus;
 
-    public List<UserResponse> getAllUsers() {
-        return userRepository.findAll().stream()
-                .map(AuthService::toResponse)
-                .collect(Collectors.toList());
+    public CursorPage<UserResponse> getAllUsers(Role role, String cursor, Integer limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        PageCursor after = PageCursor.decode(cursor);
+        List<User> rows = userRepository.findPage(role,
+                after == null ? null : after.createdAt(),
+                after == null ? null : after.id(),
+                Limit.of(pageSize + 1));
+        return CursorPage.fromRows(rows, pageSize,
+                user -> new PageCursor(user.getCreatedAt(), user.getId()),
+                page -> page.stream().map(AuthService::toResponse).collect(Collectors.toList()));
     }
 
     public UserResponse getUserById(UUID id) {
@@ -41,8 +56,14 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
+        Role oldRole = user.getRole();
         user.setRole(newRole);
         userRepository.save(user);
+        // Cached principals still carry the old role
+        tokenCache.evictUser(userId);
+        if (oldRole != newRole) {
+            eventBus.publish(new UserRoleChanged(userId, oldRole, newRole));
+        }
 
         return AuthService.toResponse(user);
     }
@@ -54,6 +75,8 @@ public class UserService {
 
         user.setDisplayName(newDisplayName);
         userRepository.save(user);
+        tokenCache.evictUser(userId);
+        eventBus.publish(new UserProfileChanged(userId));
 
         return AuthService.toResponse(user);
     }
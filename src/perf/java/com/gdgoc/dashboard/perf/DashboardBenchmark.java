@@ -0,0 +1,41 @@
+package com.gdgoc.dashboard.perf;
+
+import com.gdgoc.dashboard.dto.response.DashboardAdminResponse;
+import com.gdgoc.dashboard.dto.response.DashboardLeaderResponse;
+import com.gdgoc.dashboard.dto.response.DashboardMemberResponse;
+import com.gdgoc.dashboard.service.DashboardService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DashboardBenchmark {
+
+    @Benchmark
+    public DashboardAdminResponse adminDashboard(SeededApplication app, QueryCounters counters) {
+        DashboardService dashboardService = app.bean(DashboardService.class);
+        return app.call(counters, dashboardService::getAdminDashboard);
+    }
+
+    @Benchmark
+    public DashboardLeaderResponse leaderDashboard(SeededApplication app, QueryCounters counters) {
+        DashboardService dashboardService = app.bean(DashboardService.class);
+        return app.call(counters, () -> dashboardService.getLeaderDashboard(app.project.getId(), app.leader));
+    }
+
+    @Benchmark
+    public DashboardMemberResponse memberDashboard(SeededApplication app, QueryCounters counters) {
+        DashboardService dashboardService = app.bean(DashboardService.class);
+        return app.call(counters, () -> dashboardService.getMemberDashboard(app.member));
+    }
+}
@@ -0,0 +1,213 @@
+package com.gdgoc.dashboard.perf;
+
+import com.gdgoc.dashboard.GdgocDashboardApplication;
+import com.gdgoc.dashboard.security.LocalSigningKey;
+import com.gdgoc.dashboard.security.LocalTokenMinter;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HTTP load test of the running application, once with platform request threads and once
+ * with the "vt" profile (virtual threads + connection concurrency limit), on the same
+ * synthetic dataset.
+ *
+ * Each mode boots the app on a random port with an in-memory H2 database loaded by the
+ * "seed" profile and local token verification. Clients are virtual threads, each sending
+ * requests back to back as a random seeded user: member dashboard, own tasks and own
+ * projects. After a warmup, throughput and latency percentiles are printed per mode.
+ *
+ * Arguments are {@code key=value}: concurrency (500), warmup (10s), duration (30s),
+ * users (5000), projects (500), tasks (100000), token-users (1000), modes (platform,virtual),
+ * endpoints (comma-separated paths, default the three above),
+ * and any {@code --spring.*} / {@code --app.*} option passed through to the app, e.g.
+ * {@code --app.dashboard.cache.member.ttl=0s}.
+ */
+public class HttpLoadTest {
+
+    private static final String DEFAULT_ENDPOINTS = "/api/dashboard/member,/api/tasks/my?limit=20,/api/projects?limit=20";
+
+    private final Map<String, String> options = new HashMap<>();
+    private final List<String> appArgs = new ArrayList<>();
+
+    public static void main(String[] args) throws Exception {
+        new HttpLoadTest(args).run();
+        System.exit(0);
+    }
+
+    HttpLoadTest(String[] args) {
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                appArgs.add(arg);
+            } else if (arg.contains("=")) {
+                options.put(arg.substring(0, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+    }
+
+    void run() throws Exception {
+        List<String> results = new ArrayList<>();
+        for (String mode : option("modes", "platform,virtual").split(",")) {
+            results.add(runMode(mode.trim()));
+        }
+        System.out.printf("%n%-9s %9s %10s %9s %9s %9s %9s %8s %9s%n",
+                "mode", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "errors", "threads");
+        results.forEach(System.out::println);
+    }
+
+    private String runMode(String mode) throws Exception {
+        boolean virtual = mode.equals("virtual");
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.main.banner-mode=off",
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:load_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--app.auth.verifier=local",
+                "--app.auth.local.key-file=" + LocalTokenMinter.DEFAULT_KEY_FILE,
+                "--app.seed.users=" + option("users", "5000"),
+                "--app.seed.projects=" + option("projects", "500"),
+                "--app.seed.tasks=" + option("tasks", "100000")));
+        args.addAll(appArgs);
+
+        System.out.printf("== %s: starting and seeding...%n", mode);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(GdgocDashboardApplication.class)
+                .profiles(virtual ? new String[] { "dev", "seed", "vt" } : new String[] { "dev", "seed" })
+                .run(args.toArray(String[]::new));
+        try {
+            String port = context.getEnvironment().getProperty("local.server.port");
+            String contextPath = context.getEnvironment().getProperty("server.servlet.context-path", "");
+            String baseUrl = "http://localhost:" + port + contextPath;
+            return String.format("%-9s %s", mode, load(baseUrl));
+        } finally {
+            context.close();
+        }
+    }
+
+    private String load(String baseUrl) throws Exception {
+        int concurrency = Integer.parseInt(option("concurrency", "500"));
+        Duration warmup = Duration.parse("PT" + option("warmup", "10s"));
+        Duration duration = Duration.parse("PT" + option("duration", "30s"));
+        String[] endpoints = option("endpoints", DEFAULT_ENDPOINTS).split(",");
+        String[] tokens = mintTokens(Math.min(Integer.parseInt(option("token-users", "1000")),
+                Integer.parseInt(option("users", "5000"))));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+        System.out.printf("   %d clients, warmup %s, measuring %s%n", concurrency, warmup, duration);
+        threads.resetPeakThreadCount();
+        long warmupEnd = System.nanoTime() + warmup.toNanos();
+        long end = warmupEnd + duration.toNanos();
+        LongAdder errors = new LongAdder();
+        List<long[]> latencies = new ArrayList<>();
+        List<Integer> counts = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            latencies.add(new long[1024]);
+            counts.add(0);
+        }
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                int clientIndex = c;
+                clients.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    long[] samples = latencies.get(clientIndex);
+                    int count = 0;
+                    while (true) {
+                        long started = System.nanoTime();
+                        if (started >= end) {
+                            break;
+                        }
+                        HttpRequest request = HttpRequest.newBuilder(
+                                        URI.create(baseUrl + endpoints[random.nextInt(endpoints.length)]))
+                                .header("Authorization", "Bearer " + tokens[random.nextInt(tokens.length)])
+                                .timeout(Duration.ofSeconds(60))
+                                .build();
+                        boolean ok;
+                        try {
+                            ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        long finished = System.nanoTime();
+                        if (started < warmupEnd) {
+                            continue;
+                        }
+                        if (!ok) {
+                            errors.increment();
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = finished - started;
+                    }
+                    synchronized (latencies) {
+                        latencies.set(clientIndex, samples);
+                        counts.set(clientIndex, count);
+                    }
+                    return null;
+                });
+            }
+        }
+
+        int total = counts.stream().mapToInt(Integer::intValue).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (int i = 0; i < concurrency; i++) {
+            System.arraycopy(latencies.get(i), 0, all, offset, counts.get(i));
+            offset += counts.get(i);
+        }
+        Arrays.sort(all);
+        return String.format("%9d %10.1f %9.1f %9.1f %9.1f %9.1f %8d %9d",
+                total, total / (duration.toNanos() / 1e9),
+                percentile(all, 50), percentile(all, 90), percentile(all, 99),
+                all.length == 0 ? 0 : all[all.length - 1] / 1e6,
+                errors.sum(), threads.getPeakThreadCount());
+    }
+
+    // Tokens for the first seeded users (seed-user-0 is the admin)
+    private static String[] mintTokens(int count) {
+        LocalTokenMinter minter = new LocalTokenMinter(
+                LocalSigningKey.loadOrCreate(Path.of(LocalTokenMinter.DEFAULT_KEY_FILE)));
+        String[] tokens = new String[count];
+        for (int i = 0; i < count; i++) {
+            String uid = "seed-user-" + i;
+            tokens[i] = minter.mint(uid, uid + "@seed.local", "Seed User " + i, Duration.ofHours(1));
+        }
+        return tokens;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+}
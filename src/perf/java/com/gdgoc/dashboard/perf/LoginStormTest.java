@@ -0,0 +1,231 @@
+package com.gdgoc.dashboard.perf;
+
+import com.gdgoc.dashboard.GdgocDashboardApplication;
+import com.gdgoc.dashboard.security.LocalSigningKey;
+import com.gdgoc.dashboard.security.LocalTokenMinter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Login storm: many members signing in within the same moment, as at the start of a club event.
+ *
+ * Boots the app on a random port with an empty in-memory H2 database and local token
+ * verification, then sends every login of a storm at once (one virtual thread each, released
+ * together) to POST /api/auth/login. Each user logs in several times concurrently, like
+ * several open tabs. Three storms run back to back: first sign-in, the same users returning,
+ * and the same users with a changed display name. Per storm it prints latency percentiles,
+ * SQL statements, entity inserts / updates and the auth.logins counters.
+ *
+ * Exits with status 1 when a login fails, the users table does not hold exactly one row per
+ * user, there is not exactly one ADMIN, a returning storm writes, or a profile storm writes
+ * a user more than once.
+ *
+ * Arguments are {@code key=value}: logins (1000), users (250), and any {@code --spring.*} /
+ * {@code --app.*} option passed through to the app.
+ */
+public class LoginStormTest {
+
+    private static final String[] RESULTS = { "created", "updated", "unchanged", "coalesced" };
+
+    private final Map<String, String> options = new HashMap<>();
+    private final List<String> appArgs = new ArrayList<>();
+
+    public static void main(String[] args) throws Exception {
+        System.exit(new LoginStormTest(args).run() ? 0 : 1);
+    }
+
+    LoginStormTest(String[] args) {
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                appArgs.add(arg);
+            } else if (arg.contains("=")) {
+                options.put(arg.substring(0, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+    }
+
+    boolean run() throws Exception {
+        int logins = Integer.parseInt(option("logins", "1000"));
+        int users = Math.min(Integer.parseInt(option("users", "250")), logins);
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.main.banner-mode=off",
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:login_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=true",
+                "--logging.level.root=WARN",
+                "--app.auth.verifier=local",
+                "--app.auth.local.key-file=" + LocalTokenMinter.DEFAULT_KEY_FILE,
+                // Keep the scheduled score rollover out of the SQL counts
+                "--app.contributor-scores.rollover-cron=-"));
+        args.addAll(appArgs);
+
+        System.out.println("== starting...");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(GdgocDashboardApplication.class)
+                .profiles("dev")
+                .run(args.toArray(String[]::new));
+        try {
+            String port = context.getEnvironment().getProperty("local.server.port");
+            String contextPath = context.getEnvironment().getProperty("server.servlet.context-path", "");
+            String url = "http://localhost:" + port + contextPath + "/api/auth/login";
+            Statistics statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class)
+                    .getStatistics();
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+
+            System.out.printf("   %d logins per storm, %d users, %d concurrent logins per user%n",
+                    logins, users, (logins + users - 1) / users);
+            System.out.printf("%n%-10s %7s %8s %8s %8s %8s %7s %11s %8s %8s   %s%n", "storm", "errors",
+                    "p50 ms", "p90 ms", "p99 ms", "max ms", "SQL", "SQL/login", "inserts", "updates",
+                    String.join(" / ", RESULTS));
+            List<String> problems = new ArrayList<>();
+
+            Storm first = storm("first", client, url, mintTokens(users, ""), logins, statistics, meterRegistry);
+            Storm returning = storm("returning", client, url, mintTokens(users, ""), logins, statistics,
+                    meterRegistry);
+            Storm renamed = storm("renamed", client, url, mintTokens(users, " (renamed)"), logins, statistics,
+                    meterRegistry);
+
+            for (Storm storm : List.of(first, returning, renamed)) {
+                if (storm.errors() > 0) {
+                    problems.add(storm.name() + ": " + storm.errors() + " logins failed");
+                }
+            }
+            if (returning.updates() > 0 || returning.inserts() > 0) {
+                problems.add("returning: " + returning.inserts() + " inserts and " + returning.updates()
+                        + " updates for unchanged profiles");
+            }
+            if (renamed.updates() > users) {
+                problems.add("renamed: " + renamed.updates() + " updates for " + users + " users");
+            }
+            long rows = jdbc.queryForObject("select count(*) from users", Long.class);
+            long admins = jdbc.queryForObject("select count(*) from users where role = 'ADMIN'", Long.class);
+            if (rows != users) {
+                problems.add(rows + " users rows for " + users + " users");
+            }
+            if (admins != 1) {
+                problems.add(admins + " admins bootstrapped instead of 1");
+            }
+
+            System.out.println();
+            if (problems.isEmpty()) {
+                System.out.printf("%d users, 1 admin: login storms OK.%n", rows);
+                return true;
+            }
+            problems.forEach(problem -> System.out.println("FAILED " + problem));
+            return false;
+        } finally {
+            context.close();
+        }
+    }
+
+    private record Storm(String name, long errors, long inserts, long updates) {
+    }
+
+    private Storm storm(String name, HttpClient client, String url, String[] tokens, int logins,
+            Statistics statistics, MeterRegistry meterRegistry) throws Exception {
+        long[] latencies = new long[logins];
+        LongAdder errors = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        long[] countersBefore = counters(meterRegistry);
+        statistics.clear();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < logins; i++) {
+                int index = i;
+                // Consecutive logins are different users, so each user's logins are spread over the storm
+                String token = tokens[i % tokens.length];
+                clients.submit(() -> {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString("{\"idToken\": \"" + token + "\"}"))
+                            .timeout(Duration.ofSeconds(60))
+                            .build();
+                    start.await();
+                    long started = System.nanoTime();
+                    try {
+                        if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                            errors.increment();
+                        }
+                    } catch (Exception e) {
+                        errors.increment();
+                    }
+                    latencies[index] = System.nanoTime() - started;
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        Arrays.sort(latencies);
+        long statements = statistics.getPrepareStatementCount();
+        long[] countersAfter = counters(meterRegistry);
+        StringBuilder results = new StringBuilder();
+        for (int i = 0; i < RESULTS.length; i++) {
+            results.append(i == 0 ? "" : " / ").append(countersAfter[i] - countersBefore[i]);
+        }
+        Storm storm = new Storm(name, errors.sum(), statistics.getEntityInsertCount(),
+                statistics.getEntityUpdateCount());
+        System.out.printf("%-10s %7d %8.1f %8.1f %8.1f %8.1f %7d %11.2f %8d %8d   %s%n", name, storm.errors(),
+                percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 99),
+                latencies[latencies.length - 1] / 1e6, statements, (double) statements / logins,
+                storm.inserts(), storm.updates(), results);
+        return storm;
+    }
+
+    private static long[] counters(MeterRegistry meterRegistry) {
+        long[] values = new long[RESULTS.length];
+        for (int i = 0; i < RESULTS.length; i++) {
+            Counter counter = meterRegistry.find("auth.logins").tag("result", RESULTS[i]).counter();
+            values[i] = counter == null ? 0 : (long) counter.count();
+        }
+        return values;
+    }
+
+    private static String[] mintTokens(int count, String nameSuffix) {
+        LocalTokenMinter minter = new LocalTokenMinter(
+                LocalSigningKey.loadOrCreate(Path.of(LocalTokenMinter.DEFAULT_KEY_FILE)));
+        String[] tokens = new String[count];
+        for (int i = 0; i < count; i++) {
+            String uid = "storm-user-" + i;
+            tokens[i] = minter.mint(uid, uid + "@storm.local", "Storm User " + i + nameSuffix, Duration.ofHours(1));
+        }
+        return tokens;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+}
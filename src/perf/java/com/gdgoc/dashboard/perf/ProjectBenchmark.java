@@ -0,0 +1,91 @@
+package com.gdgoc.dashboard.perf;
+
+import com.gdgoc.dashboard.dto.response.CursorPage;
+import com.gdgoc.dashboard.dto.response.ProjectResponse;
+import com.gdgoc.dashboard.entity.User;
+import com.gdgoc.dashboard.repository.UserRepository;
+import com.gdgoc.dashboard.service.ProjectService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectBenchmark {
+
+    /**
+     * A member of {@code memberships} extra projects (each with one task), to see how the
+     * first page of the project list scales with the number of projects a user belongs to.
+     */
+    @State(Scope.Benchmark)
+    public static class WideMember {
+
+        @Param({ "10", "100", "1000" })
+        public int memberships;
+
+        User user;
+
+        @Setup(Level.Trial)
+        public void seed(SeededApplication app) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(app.bean(DataSource.class));
+            UUID userId = UUID.randomUUID();
+            jdbcTemplate.update("INSERT INTO users (id, firebase_uid, email, display_name, role) VALUES (?, ?, ?, ?, ?)",
+                    userId, "uid_wide_member", "wide.member@gmail.com", "Wide Member", "MEMBER");
+
+            List<Object[]> projects = new ArrayList<>();
+            List<Object[]> members = new ArrayList<>();
+            List<Object[]> tasks = new ArrayList<>();
+            for (int i = 0; i < memberships; i++) {
+                UUID projectId = UUID.randomUUID();
+                projects.add(new Object[] { projectId, "Wide project " + i, app.leader.getId(), "ACTIVE" });
+                members.add(new Object[] { projectId, userId });
+                tasks.add(new Object[] { projectId, "Wide task " + i, "MEDIUM", "TODO" });
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO projects (id, name, leader_id, status) VALUES (?, ?, ?, ?)",
+                    projects);
+            jdbcTemplate.batchUpdate("INSERT INTO project_members (project_id, user_id) VALUES (?, ?)", members);
+            jdbcTemplate.batchUpdate("INSERT INTO tasks (project_id, title, priority, status) VALUES (?, ?, ?, ?)",
+                    tasks);
+
+            user = app.bean(UserRepository.class).findById(userId).orElseThrow();
+        }
+    }
+
+    @Benchmark
+    public CursorPage<ProjectResponse> projectsByUser(SeededApplication app, QueryCounters counters) {
+        ProjectService projectService = app.bean(ProjectService.class);
+        return app.call(counters, () -> projectService.getProjectsByUser(app.member, null, null, null));
+    }
+
+    @Benchmark
+    public CursorPage<ProjectResponse> projectsByUserAsAdmin(SeededApplication app, QueryCounters counters) {
+        ProjectService projectService = app.bean(ProjectService.class);
+        return app.call(counters, () -> projectService.getProjectsByUser(app.admin, null, null, null));
+    }
+
+    @Benchmark
+    public CursorPage<ProjectResponse> projectsByWideMember(SeededApplication app, WideMember wide,
+            QueryCounters counters) {
+        ProjectService projectService = app.bean(ProjectService.class);
+        return app.call(counters, () -> projectService.getProjectsByUser(wide.user, null, null, null));
+    }
+}
@@ -0,0 +1,30 @@
+package com.gdgoc.dashboard.perf;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JDBC statements prepared per iteration, next to the number of benchmark calls,
+ * so statements/op = statements / calls.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class QueryCounters {
+
+    public long statements;
+    public long calls;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        statements = 0;
+        calls = 0;
+    }
+
+    void record(long statementCount) {
+        statements += statementCount;
+        calls++;
+    }
+}
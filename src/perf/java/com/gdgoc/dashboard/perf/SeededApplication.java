@@ -0,0 +1,125 @@
+package com.gdgoc.dashboard.perf;
+
+import com.gdgoc.dashboard.GdgocDashboardApplication;
+import com.gdgoc.dashboard.entity.Project;
+import com.gdgoc.dashboard.entity.User;
+import com.gdgoc.dashboard.repository.ProjectRepository;
+import com.gdgoc.dashboard.repository.UserRepository;
+import com.gdgoc.dashboard.service.ContributorScoreService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * The application context on an in-memory H2 database seeded with the mock data
+ * {@code scale} times. Benchmarks use the users and projects of the first copy;
+ * the other copies only make the tables bigger.
+ *
+ * Each benchmarked call runs in a read-only transaction, like a request with
+ * open-in-view, and its prepared statements are added to {@link QueryCounters}.
+ * Writes run in a read-write transaction instead. {@code jdbcBatchSize} sets
+ * hibernate.jdbc.batch_size; 1 turns batching (and insert/update ordering) off.
+ * {@code secondLevelCache} switches the Hibernate second-level and query caches.
+ */
+@State(Scope.Benchmark)
+public class SeededApplication {
+
+    @Param("1")
+    public int scale;
+
+    @Param("100")
+    public int jdbcBatchSize;
+
+    @Param("true")
+    public boolean secondLevelCache;
+
+    ConfigurableApplicationContext context;
+    User admin;
+    User leader;
+    User member;
+    Project project;
+
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate writeTransaction;
+    private Statistics statistics;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(GdgocDashboardApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("dev")
+                .run("--spring.main.banner-mode=off",
+                        "--spring.datasource.url=jdbc:h2:mem:perf_" + UUID.randomUUID()
+                                + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=true",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize,
+                        "--spring.jpa.properties.hibernate.order_inserts=" + (jdbcBatchSize > 1),
+                        "--spring.jpa.properties.hibernate.order_updates=" + (jdbcBatchSize > 1),
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=" + secondLevelCache,
+                        "--spring.jpa.properties.hibernate.cache.use_query_cache=" + secondLevelCache,
+                        "--logging.level.root=WARN");
+
+        new MockDataSeeder(context.getBean(DataSource.class))
+                .seed(Path.of(System.getProperty("perf.mock-data", "database_scripts/4_mock_data.sql")), scale);
+        // Seeded with plain JDBC: nothing read during startup may stay in the second-level cache
+        context.getBean(EntityManagerFactory.class).getCache().unwrap(Cache.class).evictAllRegions();
+        context.getBean(ContributorScoreService.class).rebuild();
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        admin = userRepository.findByFirebaseUid(MockDataSeeder.uid(1, "admin_tuan")).orElseThrow();
+        leader = userRepository.findByFirebaseUid(MockDataSeeder.uid(1, "leader_mai")).orElseThrow();
+        member = userRepository.findByFirebaseUid(MockDataSeeder.uid(1, "member_nhi")).orElseThrow();
+        String projectName = MockDataSeeder.projectName(1, "GDGoC Performance Dashboard");
+        project = context.getBean(ProjectRepository.class).findAll().stream()
+                .filter(p -> p.getName().equals(projectName))
+                .findFirst()
+                .orElseThrow();
+
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    <T> T call(QueryCounters counters, Supplier<T> work) {
+        return call(counters, readOnlyTransaction, work);
+    }
+
+    <T> T write(QueryCounters counters, Supplier<T> work) {
+        return call(counters, writeTransaction, work);
+    }
+
+    private <T> T call(QueryCounters counters, TransactionTemplate transaction, Supplier<T> work) {
+        long before = statistics.getPrepareStatementCount();
+        T result = transaction.execute(status -> work.get());
+        counters.record(statistics.getPrepareStatementCount() - before);
+        return result;
+    }
+}
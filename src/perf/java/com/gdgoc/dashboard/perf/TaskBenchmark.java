@@ -0,0 +1,30 @@
+package com.gdgoc.dashboard.perf;
+
+import com.gdgoc.dashboard.dto.request.TaskFilter;
+import com.gdgoc.dashboard.dto.response.CursorPage;
+import com.gdgoc.dashboard.dto.response.TaskResponse;
+import com.gdgoc.dashboard.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskBenchmark {
+
+    @Benchmark
+    public CursorPage<TaskResponse> tasksByProject(SeededApplication app, QueryCounters counters) {
+        TaskService taskService = app.bean(TaskService.class);
+        return app.call(counters,
+                () -> taskService.getTasksByProject(app.project.getId(), new TaskFilter(), null, null, null));
+    }
+}
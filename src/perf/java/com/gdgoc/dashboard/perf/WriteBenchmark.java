@@ -0,0 +1,105 @@
+package com.gdgoc.dashboard.perf;
+
+import com.gdgoc.dashboard.dto.request.CreateTaskRequest;
+import com.gdgoc.dashboard.dto.response.BulkTaskResponse;
+import com.gdgoc.dashboard.entity.ProjectMember;
+import com.gdgoc.dashboard.entity.User;
+import com.gdgoc.dashboard.enums.TaskPriority;
+import com.gdgoc.dashboard.repository.ProjectMemberRepository;
+import com.gdgoc.dashboard.repository.UserRepository;
+import com.gdgoc.dashboard.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write paths with and without JDBC batching:
+ * {@code mvn -Pperf test-compile exec:exec -Djmh.args="-p jdbcBatchSize=1,100 WriteBenchmark"}.
+ * Each operation writes {@value #ROWS} rows; statements/op shows how many JDBC statements
+ * Hibernate prepared for them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WriteBenchmark {
+
+    static final int ROWS = 100;
+
+    /**
+     * {@value #ROWS} users outside the benchmark project, added to and removed from it.
+     */
+    @State(Scope.Benchmark)
+    public static class NewMembers {
+
+        List<User> users;
+
+        @Setup(Level.Trial)
+        public void seed(SeededApplication app) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(app.bean(DataSource.class));
+            List<UUID> userIds = new ArrayList<>();
+            List<Object[]> rows = new ArrayList<>();
+            for (int i = 0; i < ROWS; i++) {
+                UUID userId = UUID.randomUUID();
+                userIds.add(userId);
+                rows.add(new Object[] { userId, "uid_new_member_" + i, "new.member" + i + "@gmail.com",
+                        "New Member " + i, "MEMBER" });
+            }
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO users (id, firebase_uid, email, display_name, role) VALUES (?, ?, ?, ?, ?)", rows);
+            users = app.bean(UserRepository.class).findAllById(userIds);
+        }
+    }
+
+    /**
+     * Bulk creation of {@value #ROWS} tasks with two assignees each: task rows and assignee rows.
+     */
+    @Benchmark
+    public BulkTaskResponse createTasks(SeededApplication app, QueryCounters counters) {
+        TaskService taskService = app.bean(TaskService.class);
+        List<CreateTaskRequest> requests = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            CreateTaskRequest request = new CreateTaskRequest();
+            request.setTitle("Benchmark task " + i);
+            request.setPriority(TaskPriority.MEDIUM);
+            request.setDeadline(LocalDate.now().plusDays(7));
+            request.setAssigneeIds(List.of(app.leader.getId(), app.member.getId()));
+            requests.add(request);
+        }
+        return app.write(counters, () -> taskService.createTasks(app.project.getId(), requests, app.admin));
+    }
+
+    /**
+     * {@value #ROWS} members added to the project and removed again in one transaction.
+     */
+    @Benchmark
+    public int addAndRemoveMembers(SeededApplication app, NewMembers newMembers, QueryCounters counters) {
+        ProjectMemberRepository projectMemberRepository = app.bean(ProjectMemberRepository.class);
+        return app.write(counters, () -> {
+            List<ProjectMember> members = new ArrayList<>(ROWS);
+            for (User user : newMembers.users) {
+                members.add(ProjectMember.builder().project(app.project).user(user).build());
+            }
+            projectMemberRepository.saveAllAndFlush(members);
+            projectMemberRepository.deleteAll(members);
+            return members.size();
+        });
+    }
+}